@@ -3,9 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +15,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,11 +26,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +51,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** The loader of the address book if it is loaded in the background, or null otherwise. */
+    private AddressBookLoader addressBookLoader;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,14 +64,24 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Function<Path, AddressBookStorage> jsonStorageFactory = config.isJournaledStorage()
+                ? filePath -> new JournaledAddressBookStorage(filePath, config.getJournalFsyncPolicy())
+                : filePath -> new JsonAddressBookStorage(filePath, config.isCompactJsonStorage());
+        AddressBookStorage addressBookStorage = jsonStorageFactory.apply(userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage, jsonStorageFactory));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        if (config.isProgressiveLoading()) {
+            // The persons are added to the model on the JavaFX application thread once the window is shown
+            model = new ModelManager(new AddressBook(), userPrefs);
+            addressBookLoader = new AddressBookLoader(() -> readInitialAddressBook(storage), model,
+                    Platform::runLater);
+            logic = new LogicManager(model, storage, addressBookLoader, Platform::runLater);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage, Platform::runLater);
+        }
 
         ui = new UiManager(logic);
     }
@@ -74,6 +92,14 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialAddressBook(storage), userPrefs);
+    }
+
+    /**
+     * Returns {@code storage}'s address book, or the sample address book if it is not found, or an empty address
+     * book if errors occur when reading it.
+     */
+    private ReadOnlyAddressBook readInitialAddressBook(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -90,7 +116,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -169,6 +195,9 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (addressBookLoader != null) {
+            addressBookLoader.start();
+        }
     }
 
     @Override
@@ -179,5 +208,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        // Commands still queued are executed and saved before the last writes are waited for
+        logic.shutdown();
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
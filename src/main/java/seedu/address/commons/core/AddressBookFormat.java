@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that address book data can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON text. */
+    JSON,
+    /** A compact binary format that is faster to read and write. */
+    BINARY,
+    /** The binary format split into segment files, of which only the changed ones are rewritten. */
+    SEGMENTED
+}
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journaledStorage = false;
+    private FsyncPolicy journalFsyncPolicy = FsyncPolicy.BATCHED;
+    private boolean compactJsonStorage = false;
+    private boolean progressiveLoading = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
+    public FsyncPolicy getJournalFsyncPolicy() {
+        return journalFsyncPolicy;
+    }
+
+    public void setJournalFsyncPolicy(FsyncPolicy journalFsyncPolicy) {
+        this.journalFsyncPolicy = journalFsyncPolicy;
+    }
+
+    public boolean isCompactJsonStorage() {
+        return compactJsonStorage;
+    }
+
+    public void setCompactJsonStorage(boolean compactJsonStorage) {
+        this.compactJsonStorage = compactJsonStorage;
+    }
+
+    public boolean isProgressiveLoading() {
+        return progressiveLoading;
+    }
+
+    public void setProgressiveLoading(boolean progressiveLoading) {
+        this.progressiveLoading = progressiveLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +80,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && journaledStorage == o.journaledStorage
+                && Objects.equals(journalFsyncPolicy, o.journalFsyncPolicy)
+                && compactJsonStorage == o.compactJsonStorage
+                && progressiveLoading == o.progressiveLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journaledStorage, journalFsyncPolicy,
+                compactJsonStorage, progressiveLoading);
     }
 
     @Override
@@ -57,6 +98,10 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nJournaled storage : " + journaledStorage);
+        sb.append("\nJournal fsync policy : " + journalFsyncPolicy);
+        sb.append("\nCompact json storage : " + compactJsonStorage);
+        sb.append("\nProgressive loading : " + progressiveLoading);
         return sb.toString();
     }
 
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * When data appended to a file is forced out of the operating system's caches to the storage device.
+ */
+public enum FsyncPolicy {
+    /** After every write, so that saved data survives a crash of the operating system or a power loss. */
+    EVERY_WRITE,
+    /** At most once a second, so that at most the data saved in the last second is lost on a power loss. */
+    BATCHED,
+    /** Whenever the operating system chooses to, which is the fastest but gives no guarantee on a power loss. */
+    OS_MANAGED
+}
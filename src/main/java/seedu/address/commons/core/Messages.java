@@ -9,5 +9,10 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING =
+            "The address book is still loading. Please try again once it has loaded.";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING_FAILED =
+            "The address book could not be loaded. Please check the data file and restart the app.";
+    public static final String MESSAGE_SHUT_DOWN = "The app is shutting down, so the command was not executed.";
 
 }
@@ -6,12 +6,24 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    private static final char SOUNDEX_VOWEL = '0';
+    private static final char SOUNDEX_SILENT = '-';
+    /** The Soundex digit of each letter from A to Z. */
+    private static final String SOUNDEX_DIGITS = "0123012-02245501262301-202";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +50,119 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the distinct words of {@code sentence}, normalized with {@link #normalizeWord(String)}, in the order
+     * they first appear. Words are separated by whitespace as in {@link #containsWordIgnoreCase(String, String)},
+     * so {@code containsWordIgnoreCase(sentence, word)} is true iff the result contains {@code normalizeWord(word)}.
+     * @param sentence cannot be null
+     */
+    public static Set<String> toNormalizedWords(String sentence) {
+        requireNonNull(sentence);
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WHITESPACE.split(sentence)) {
+            if (!word.isEmpty()) {
+                words.add(normalizeWord(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} trimmed and in lower case, so that words differing only in case normalize to the same value.
+     * @param word cannot be null
+     */
+    public static String normalizeWord(String word) {
+        requireNonNull(word);
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second} if it is at most {@code maxDistance},
+     * or {@code maxDistance + 1} otherwise. Only the band of cells within {@code maxDistance} of the diagonal is
+     * computed, and the computation stops as soon as the distance is known to exceed {@code maxDistance}.
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance must not be negative
+     */
+    public static int boundedEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, tooFar) : tooFar;
+            int rowMinimum = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(tooFar, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = tooFar;
+            }
+            if (rowMinimum > maxDistance) {
+                return tooFar;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}, which is the same for most words that sound alike in English,
+     * e.g. {@code "Robert"} and {@code "Rupert"} are both {@code "R163"}. Characters other than the letters
+     * {@code A} to {@code Z} are ignored, ignoring case. Returns an empty string if {@code word} has no such letters.
+     * @param word cannot be null
+     */
+    public static String toSoundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != SOUNDEX_VOWEL && digit != SOUNDEX_SILENT && digit != previousDigit) {
+                code.append(digit);
+            }
+            // H and W do not separate letters with the same digit, but vowels do
+            if (digit != SOUNDEX_SILENT) {
+                previousDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,184 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads an address book into a {@code Model} in the background, so that the model can be shown while it is loading.
+ * The address book is read on a background thread, and its persons are then added to the model in batches. Each batch
+ * is added by a task run on the thread that the model is confined to, such as the JavaFX application thread, and the
+ * next batch is only handed over once the previous one has been added, so that the thread is free in between.
+ * If the address book cannot be read or its persons cannot be added, the loading fails and is never finished.
+ * <p>
+ * The progress of the loading is kept on the model's thread, and so must only be read from it.
+ */
+public class AddressBookLoader {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** The total number of persons reported while the address book is still being read. */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Supplier<ReadOnlyAddressBook> reader;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final int batchSize;
+    private final List<ProgressListener> progressListeners = new ArrayList<>();
+    private final List<FailureListener> failureListeners = new ArrayList<>();
+
+    private int loadedCount = 0;
+    private int totalCount = UNKNOWN_TOTAL;
+    private Throwable failure;
+
+    public AddressBookLoader(Supplier<ReadOnlyAddressBook> reader, Model model, Executor modelExecutor) {
+        this(reader, model, modelExecutor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an {@code AddressBookLoader} that adds the persons of the address book returned by {@code reader} to
+     * {@code model} in batches of {@code batchSize}, by running tasks on {@code modelExecutor}.
+     * {@code model} should be empty, as the persons are added after any persons in it.
+     */
+    public AddressBookLoader(Supplier<ReadOnlyAddressBook> reader, Model model, Executor modelExecutor,
+            int batchSize) {
+        requireNonNull(reader);
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+        this.reader = reader;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts loading the address book on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "AddressBook loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the address book and adds its persons to the model, returning once all of them have been added, or once
+     * the loading has failed.
+     * Must not be called on the model's thread.
+     */
+    void load() {
+        try {
+            List<Person> persons = reader.get().getPersonList();
+            int total = persons.size();
+            logger.info("Loading " + total + " persons into the address book");
+            runOnModelThread(() -> setProgress(0, total));
+
+            for (int from = 0; from < total; from += batchSize) {
+                List<Person> batch = new ArrayList<>(persons.subList(from, Math.min(from + batchSize, total)));
+                runOnModelThread(() -> {
+                    model.addPersons(batch);
+                    setProgress(loadedCount + batch.size(), total);
+                });
+            }
+            logger.info("Finished loading the address book");
+        } catch (Throwable t) {
+            // Nothing else would report the failure, as the loader thread would just end
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            logger.severe("Could not load the address book: " + StringUtil.getDetails(cause));
+            runOnModelThread(() -> setFailure(cause));
+        }
+    }
+
+    /**
+     * Runs {@code task} on the model's thread and waits for it to finish.
+     */
+    private void runOnModelThread(Runnable task) {
+        CompletableFuture.runAsync(task, modelExecutor).join();
+    }
+
+    private void setFailure(Throwable failure) {
+        this.failure = failure;
+        failureListeners.forEach(listener -> listener.loadingFailed(failure));
+    }
+
+    private void setProgress(int loadedCount, int totalCount) {
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+        progressListeners.forEach(listener -> listener.progressChanged(loadedCount, totalCount));
+    }
+
+    /**
+     * Returns true if all the persons of the address book have been added to the model.
+     */
+    public boolean isLoaded() {
+        return loadedCount == totalCount;
+    }
+
+    /**
+     * Returns true if the loading has failed, so that the address book will never be fully loaded.
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Adds {@code listener} to be told of the progress of the loading, and tells it of the progress so far.
+     */
+    public void addProgressListener(ProgressListener listener) {
+        requireNonNull(listener);
+        progressListeners.add(listener);
+        listener.progressChanged(loadedCount, totalCount);
+    }
+
+    /**
+     * Adds {@code listener} to be told if the loading fails, and tells it at once if it has already failed.
+     */
+    public void addFailureListener(FailureListener listener) {
+        requireNonNull(listener);
+        failureListeners.add(listener);
+        if (failure != null) {
+            listener.loadingFailed(failure);
+        }
+    }
+
+    /**
+     * Listens to the progress of an {@code AddressBookLoader}. It is called on the model's thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called when {@code loadedCount} out of {@code totalCount} persons have been added to the model.
+         * {@code totalCount} is {@link #UNKNOWN_TOTAL} while the address book is still being read, and the
+         * loading is finished once {@code loadedCount} reaches it.
+         */
+        void progressChanged(int loadedCount, int totalCount);
+    }
+
+    /**
+     * Listens to the failure of an {@code AddressBookLoader}. It is called on the model's thread.
+     */
+    @FunctionalInterface
+    public interface FailureListener {
+        /**
+         * Called when the loading has failed because of {@code failure}. The persons added to the model so far are
+         * kept, but no more are added.
+         */
+        void loadingFailed(Throwable failure);
+    }
+
+}
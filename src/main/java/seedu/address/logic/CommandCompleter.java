@@ -0,0 +1,84 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FilterCommandParser;
+import seedu.address.model.Model;
+
+/**
+ * Completes the last word of a partially typed command from the words in the model.
+ * Keywords of a {@code find} command are completed with the words in persons' names, and arguments starting with
+ * {@code t/} are completed with tag names. In a {@code filter} command, only the last alternative of a tag condition
+ * is completed, and a leading {@code !} is kept.
+ */
+class CommandCompleter {
+
+    private final Model model;
+
+    CommandCompleter(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns up to {@code limit} versions of {@code commandText} in which the last word has been completed.
+     * Returns an empty list if the last word cannot be completed.
+     */
+    List<String> getCompletions(String commandText, int limit) {
+        requireNonNull(commandText);
+
+        int wordStart = lastWordStart(commandText);
+        if (wordStart == 0) {
+            return Collections.emptyList(); // the command word itself is not completed
+        }
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        String word = commandText.substring(wordStart);
+
+        if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            int tagStart = wordStart + PREFIX_TAG.getPrefix().length();
+            if (commandWord.equals(FilterCommand.COMMAND_WORD)) {
+                tagStart = Math.max(tagStart, commandText.lastIndexOf(FilterCommandParser.ALTERNATIVE_SEPARATOR) + 1);
+                if (commandText.startsWith(FilterCommandParser.NEGATION_MARKER, tagStart)) {
+                    tagStart += FilterCommandParser.NEGATION_MARKER.length();
+                }
+            }
+            return complete(commandText, tagStart, limit, model::getTagNameCompletions);
+        }
+
+        if (commandWord.equals(FindCommand.COMMAND_WORD) && !word.isEmpty()) {
+            return complete(commandText, wordStart, limit, model::getNameWordCompletions);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns {@code commandText} with the text from {@code start} replaced by each of the words returned by
+     * {@code source} for that text.
+     */
+    private static List<String> complete(String commandText, int start, int limit,
+            BiFunction<String, Integer, List<String>> source) {
+        String head = commandText.substring(0, start);
+        return source.apply(commandText.substring(start), limit).stream()
+                .map(completion -> head + completion)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the index at which the last whitespace-separated word of {@code commandText} starts.
+     */
+    private static int lastWordStart(String commandText) {
+        int index = commandText.length();
+        while (index > 0 && !Character.isWhitespace(commandText.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the persons shown by a {@code Model} as the user types a {@code find} command, before it is entered.
+ * Persons whose name has a word starting with any of the typed keywords are shown, as given by
+ * {@link NameStartsWithKeywordsPredicate}, so that partially typed keywords already match.
+ * <p>
+ * The search is only started once no further text has been typed for a short delay, and the persons are then tested
+ * on a background thread. Only the result of the latest search is shown: typing more text cancels the searches that
+ * have not finished yet. If the keywords typed extend the keywords of the last search shown, and the address book has
+ * not changed since, only the persons found by that search are tested again instead of the whole address book.
+ * The persons shown are filtered by the typed keywords themselves, so that persons added or edited after the search
+ * are shown if their names match.
+ * <p>
+ * The filtered person list is updated by a task run on the thread that the model is confined to, such as the JavaFX
+ * application thread. {@link #search(String)} must be called on that thread.
+ */
+public class LiveSearch {
+
+    public static final long DEFAULT_DELAY_MILLIS = 150;
+
+    /** The number of persons tested between checks of whether the search has been cancelled. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService searchExecutor;
+    private final long delayMillis;
+
+    /** Incremented by every call to {@link #search(String)}, so that earlier searches can tell they are stale. */
+    private volatile long generation = 0;
+    private Future<?> pendingSearch;
+
+    // The last search whose result was shown, which is only accessed on the model's thread
+    private NameStartsWithKeywordsPredicate lastPredicate;
+    private List<Person> lastMatches;
+    private long lastAddressBookVersion;
+
+    /**
+     * Creates a {@code LiveSearch} that searches on a background thread of its own and updates {@code model} by
+     * running tasks on {@code modelExecutor}.
+     */
+    public LiveSearch(Model model, Executor modelExecutor) {
+        this(model, modelExecutor, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Live search");
+            thread.setDaemon(true);
+            return thread;
+        }), DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that searches on {@code searchExecutor} once no text has been typed for
+     * {@code delayMillis} milliseconds, and updates {@code model} by running tasks on {@code modelExecutor}.
+     */
+    public LiveSearch(Model model, Executor modelExecutor, ScheduledExecutorService searchExecutor, long delayMillis) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        requireNonNull(searchExecutor);
+        checkArgument(delayMillis >= 0, "Delay must not be negative");
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.searchExecutor = searchExecutor;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Updates the search for the partially typed {@code commandText}, cancelling any search that has not finished.
+     * If it is a {@code find} command with keywords, the persons matching them are shown once the search finishes.
+     * If it is a {@code find} command without keywords, all persons are shown at once. Any other command text does
+     * not change the persons shown.
+     */
+    public void search(String commandText) {
+        requireNonNull(commandText);
+        long searchGeneration = ++generation;
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+
+        List<String> words = Arrays.asList(commandText.trim().split("\\s+"));
+        if (!isFindCommand(commandText, words)) {
+            return;
+        }
+        if (words.size() == 1) {
+            lastPredicate = null;
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            return;
+        }
+        startSearch(new NameStartsWithKeywordsPredicate(words.subList(1, words.size())), searchGeneration,
+                delayMillis);
+    }
+
+    /**
+     * Returns true if {@code commandText}, split into {@code words}, is a {@code find} command whose command word has
+     * been typed in full.
+     */
+    private static boolean isFindCommand(String commandText, List<String> words) {
+        return words.get(0).equals(FindCommand.COMMAND_WORD)
+                && (words.size() > 1 || Character.isWhitespace(commandText.charAt(commandText.length() - 1)));
+    }
+
+    /**
+     * Schedules a search for the persons matching {@code predicate} to start after {@code delayMillis} milliseconds.
+     */
+    private void startSearch(NameStartsWithKeywordsPredicate predicate, long searchGeneration, long delayMillis) {
+        long addressBookVersion = model.getAddressBookVersion();
+        // Persons are immutable, so a copy of the list can be searched on another thread
+        List<Person> candidates = canRefineLastSearch(predicate, addressBookVersion)
+                ? lastMatches
+                : new ArrayList<>(model.getAddressBook().getPersonList());
+        pendingSearch = searchExecutor.schedule(() -> filter(candidates, predicate, addressBookVersion,
+                searchGeneration), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean canRefineLastSearch(NameStartsWithKeywordsPredicate predicate, long addressBookVersion) {
+        return lastPredicate != null && lastAddressBookVersion == addressBookVersion
+                && lastPredicate.isRefinedBy(predicate);
+    }
+
+    /**
+     * Tests {@code candidates} against {@code predicate} on the search thread, and shows the matches unless a newer
+     * search has been started by then. The search is repeated if the address book has changed since
+     * {@code addressBookVersion}.
+     */
+    private void filter(List<Person> candidates, NameStartsWithKeywordsPredicate predicate, long addressBookVersion,
+            long searchGeneration) {
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && generation != searchGeneration) {
+                return;
+            }
+            Person candidate = candidates.get(i);
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>(matches.size() * 2));
+        matchSet.addAll(matches);
+        modelExecutor.execute(() -> {
+            if (generation != searchGeneration) {
+                return; // a newer search has been started
+            }
+            if (model.getAddressBookVersion() != addressBookVersion) {
+                // the address book has changed while searching, so the search is repeated on its current persons
+                startSearch(predicate, searchGeneration, 0);
+                return;
+            }
+            lastPredicate = predicate;
+            lastMatches = matches;
+            lastAddressBookVersion = addressBookVersion;
+            model.updateFilteredPersonList(new IndexedPersonPredicate(predicate, matchSet, model));
+        });
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -14,6 +16,9 @@ import seedu.address.model.person.Person;
  * API of the Logic component
  */
 public interface Logic {
+    /** The saved address book version before the address book is first saved. */
+    long NO_SAVED_VERSION = -1;
+
     /**
      * Executes the command and returns the result.
      * @param commandText The command as entered by the user.
@@ -23,6 +28,76 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but without holding up the caller, and returns a future
+     * of the result. Commands are parsed and the address book is saved on a background thread, and only the
+     * execution of the command on the model is run on the model's thread, such as the JavaFX application thread.
+     * Commands are executed one at a time in the order they were submitted.
+     * <p>
+     * The future is completed on the model's thread, exceptionally with a {@code CommandException} or
+     * {@code ParseException} if the command fails, or with anything else thrown while executing it. It must not be
+     * waited for on the model's thread.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops executing commands with {@link #executeAsync(String)}, and waits for the commands already submitted to
+     * be executed and their address books to be saved. Commands submitted afterwards fail at once.
+     * Must be called on the model's thread, which executes the commands waiting for it until they have finished.
+     */
+    void shutdown();
+
+    /**
+     * Returns up to {@code limit} completions of the partially typed {@code commandText}, each being the full command
+     * text with its last word completed. Keywords of {@code find} are completed with words in persons' names and
+     * arguments starting with {@code t/} with tag names.
+     * Returns an empty list if there is nothing to complete.
+     */
+    List<String> getCompletions(String commandText, int limit);
+
+    /**
+     * Filters the persons shown as {@code commandText} is typed, if it is a {@code find} command, by showing the
+     * persons whose name has a word starting with any of its keywords. The persons are searched in the background
+     * once no further text has been typed for a short delay, and only the result of the latest search is shown.
+     *
+     * @see LiveSearch#search(String)
+     */
+    void updateLiveSearch(String commandText);
+
+    /**
+     * Returns true if the address book has been fully loaded. Until then, commands that need the whole address book
+     * are rejected.
+     */
+    boolean isAddressBookLoaded();
+
+    /**
+     * Adds {@code listener} to be told of the progress of loading the address book, if it is still being loaded in
+     * the background.
+     */
+    void addLoadingProgressListener(AddressBookLoader.ProgressListener listener);
+
+    /**
+     * Adds {@code listener} to be told if loading the address book in the background fails. The address book is then
+     * never fully loaded.
+     */
+    void addLoadingFailureListener(AddressBookLoader.FailureListener listener);
+
+    /**
+     * Adds {@code listener} to be told, on the model's thread, when the address book could not be written after the
+     * command that saved it had completed, as when it is written in the background. The address book is then saved
+     * again after the next command.
+     */
+    void addSaveFailureListener(SaveFailureListener listener);
+
+    /**
+     * Returns the version of the address book, as given by {@link seedu.address.model.Model#getAddressBookVersion()},
+     * that was last saved successfully, or {@link #NO_SAVED_VERSION} if it has not been saved yet or the last save
+     * failed in the background.
+     */
+    long getSavedAddressBookVersion();
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +122,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * A listener to failures to save the address book that happen after the command that saved it has completed.
+     */
+    @FunctionalInterface
+    interface SaveFailureListener {
+        /**
+         * Called with the message to show to the user when the address book could not be saved.
+         */
+        void saveFailed(String message);
+    }
 }
@@ -1,17 +1,32 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -22,33 +37,260 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /** How often {@link #shutdown()} checks whether the commands it waits for have finished. */
+    private static final long SHUTDOWN_CHECK_INTERVAL_MILLIS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    /** The loader of the address book if it was loaded in the background, or null otherwise. */
+    private final AddressBookLoader addressBookLoader;
+    private final Executor modelExecutor;
+    /** Created on the first live search, as it starts a thread. */
+    private LiveSearch liveSearch;
+    /** The thread that commands executed asynchronously are parsed and saved on, created on first use. */
+    private ExecutorService commandExecutor;
+    /** The executions of commands on the model that are waiting for the model's thread. */
+    private final Queue<Runnable> pendingExecutions = new ConcurrentLinkedQueue<>();
+    private boolean isShutDown = false;
+    private final List<SaveFailureListener> saveFailureListeners = new ArrayList<>();
+    private volatile long savedAddressBookVersion = NO_SAVED_VERSION;
+
+    /**
+     * Creates a {@code LogicManager} that executes commands on {@code model} and saves it to {@code storage}.
+     * The address book is saved after the first command, and then only after commands that modify it or change the
+     * format it is saved in.
+     * {@code model} is confined to the thread that {@code modelExecutor} runs tasks on, such as the JavaFX application
+     * thread, and the results of live searches and background saves are applied to it by such tasks.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelExecutor) {
+        this(model, storage, null, modelExecutor);
+    }
 
-    public LogicManager(Model model, Storage storage) {
+    /**
+     * Creates a {@code LogicManager} like {@link #LogicManager(Model, Storage, Executor)} for a {@code model} that is
+     * being loaded by {@code addressBookLoader}, which is null if the address book has already been loaded.
+     * Until it has been loaded, only commands that do not need the whole address book are executed, and the address
+     * book is not saved.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader addressBookLoader, Executor modelExecutor) {
+        requireNonNull(modelExecutor);
         this.model = model;
         this.storage = storage;
+        this.addressBookLoader = addressBookLoader;
+        this.modelExecutor = modelExecutor;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(model);
+        storage.addWriteFailureListener((filePath, failure) ->
+                modelExecutor.execute(() -> reportSaveFailure(failure)));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        ExecutedCommand executedCommand = executeOnModel(command, false);
+        save(executedCommand);
+        return executedCommand.result;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        if (isShutDown) {
+            return CompletableFuture.failedFuture(new CommandException(Messages.MESSAGE_SHUT_DOWN));
+        }
+        if (commandExecutor == null) {
+            commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Command executor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            logger.info("----------------[USER COMMAND][" + commandText + "]");
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                ExecutedCommand executedCommand = executeOnModelThread(command);
+                save(executedCommand);
+                modelExecutor.execute(() -> future.complete(executedCommand.result));
+            } catch (Throwable t) {
+                modelExecutor.execute(() -> future.completeExceptionally(t));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Executes {@code command} on the model's thread, and waits for it to finish.
+     */
+    private ExecutedCommand executeOnModelThread(Command command) throws CommandException {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return executeOnModel(command, true);
+                } catch (CommandException ce) {
+                    throw new CompletionException(ce);
+                }
+            }, this::runOnModelThread).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code execution} on the model's thread, unless {@link #shutdown()} runs it first.
+     */
+    private void runOnModelThread(Runnable execution) {
+        pendingExecutions.add(execution);
+        modelExecutor.execute(this::runPendingExecutions);
+    }
+
+    private void runPendingExecutions() {
+        Runnable execution;
+        while ((execution = pendingExecutions.poll()) != null) {
+            execution.run();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        isShutDown = true;
+        if (commandExecutor == null) {
+            return;
+        }
+
+        commandExecutor.shutdown();
+        try {
+            while (!commandExecutor.isTerminated()) {
+                // This is the model's thread, so the commands waiting for it must be executed here
+                runPendingExecutions();
+                commandExecutor.awaitTermination(SHUTDOWN_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for commands to finish");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes {@code command} on the model, and returns its result together with the address book to be saved, if
+     * it needs to be saved. The address book is copied if {@code isSnapshotNeeded}, so that it can be saved on
+     * another thread while the model changes.
+     */
+    private ExecutedCommand executeOnModel(Command command, boolean isSnapshotNeeded) throws CommandException {
+        if (!isAddressBookLoaded()) {
+            if (command.requiresLoadedAddressBook()) {
+                throw new CommandException(addressBookLoader.isFailed()
+                        ? Messages.MESSAGE_ADDRESS_BOOK_LOADING_FAILED
+                        : Messages.MESSAGE_ADDRESS_BOOK_LOADING);
+            }
+            // Saving now would overwrite the data file with the persons loaded so far
+            return new ExecutedCommand(command.execute(model), null, NO_SAVED_VERSION, null);
+        }
+        CommandResult commandResult = command.execute(model);
+
+        long version = model.getAddressBookVersion();
+        AddressBookFormat format = commandResult.getAddressBookFormat()
+                .filter(newFormat -> newFormat != storage.getAddressBookFormat())
+                .orElse(null);
+        if (version == savedAddressBookVersion && format == null) {
+            return new ExecutedCommand(commandResult, null, NO_SAVED_VERSION, null);
+        }
+        ReadOnlyAddressBook addressBook = isSnapshotNeeded
+                ? new AddressBookSnapshot(model.getAddressBook())
+                : model.getAddressBook();
+        return new ExecutedCommand(commandResult, addressBook, version, format);
+    }
 
+    /**
+     * Saves the address book of {@code executedCommand}, in its new format if the format was changed, unless it does
+     * not need to be saved.
+     */
+    private void save(ExecutedCommand executedCommand) throws CommandException {
+        if (executedCommand.addressBook == null) {
+            return;
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (executedCommand.format != null) {
+                storage.setAddressBookFormat(executedCommand.format);
+            }
+            storage.saveAddressBook(executedCommand.addressBook);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedAddressBookVersion = executedCommand.version;
+    }
+
+    @Override
+    public boolean isAddressBookLoaded() {
+        return addressBookLoader == null || addressBookLoader.isLoaded();
+    }
+
+    @Override
+    public void addLoadingProgressListener(AddressBookLoader.ProgressListener listener) {
+        requireNonNull(listener);
+        if (addressBookLoader != null) {
+            addressBookLoader.addProgressListener(listener);
+        }
+    }
+
+    @Override
+    public void addLoadingFailureListener(AddressBookLoader.FailureListener listener) {
+        requireNonNull(listener);
+        if (addressBookLoader != null) {
+            addressBookLoader.addFailureListener(listener);
+        }
+    }
+
+    /**
+     * Tells the save failure listeners of {@code failure}, and makes the next command save the address book again.
+     * Must be called on the model's thread.
+     */
+    private void reportSaveFailure(IOException failure) {
+        savedAddressBookVersion = NO_SAVED_VERSION;
+        String message = FILE_OPS_ERROR_MESSAGE + failure;
+        for (SaveFailureListener listener : saveFailureListeners) {
+            listener.saveFailed(message);
+        }
+    }
+
+    @Override
+    public void addSaveFailureListener(SaveFailureListener listener) {
+        requireNonNull(listener);
+        saveFailureListeners.add(listener);
+    }
+
+    @Override
+    public long getSavedAddressBookVersion() {
+        return savedAddressBookVersion;
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText, int limit) {
+        return commandCompleter.getCompletions(commandText, limit);
+    }
 
-        return commandResult;
+    @Override
+    public void updateLiveSearch(String commandText) {
+        if (liveSearch == null) {
+            liveSearch = new LiveSearch(model, modelExecutor);
+        }
+        liveSearch.search(commandText);
     }
 
     @Override
@@ -75,4 +317,25 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * The result of a command executed on the model, and the address book to be saved after it.
+     */
+    private static class ExecutedCommand {
+        private final CommandResult result;
+        /** The address book to be saved, or null if it does not need to be saved. */
+        private final ReadOnlyAddressBook addressBook;
+        /** The version of the address book to be saved. */
+        private final long version;
+        /** The new format to save the address book in, or null if the format is unchanged. */
+        private final AddressBookFormat format;
+
+        ExecutedCommand(CommandResult result, ReadOnlyAddressBook addressBook, long version,
+                AddressBookFormat format) {
+            this.result = result;
+            this.addressBook = addressBook;
+            this.version = version;
+            this.format = format;
+        }
+    }
 }
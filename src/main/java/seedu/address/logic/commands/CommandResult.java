@@ -3,6 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.AddressBookFormat;
 
 /**
  * Represents the result of a command execution.
@@ -17,13 +20,30 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The format the address book should be saved in from now on, or null if it should not change. */
+    private final AddressBookFormat addressBookFormat;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that changes the format the
+     * address book is saved in to {@code addressBookFormat}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, AddressBookFormat addressBookFormat) {
+        this(feedbackToUser, false, false, requireNonNull(addressBookFormat));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
+            AddressBookFormat addressBookFormat) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.addressBookFormat = addressBookFormat;
     }
 
     /**
@@ -46,6 +66,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<AddressBookFormat> getAddressBookFormat() {
+        return Optional.ofNullable(addressBookFormat);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +84,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(addressBookFormat, otherCommandResult.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, addressBookFormat);
     }
 
 }
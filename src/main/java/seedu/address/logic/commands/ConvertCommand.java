@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+
+/**
+ * Changes the format that the address book data is saved in.
+ * The data is converted by saving it in the new format once this command has been executed.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Changes the format that the address book data is "
+            + "saved in, and saves it in that format.\n"
+            + "Parameters: FORMAT (json, binary or segmented)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Address book data will now be saved in %1$s format";
+
+    private final AddressBookFormat format;
+
+    public ConvertCommand(AddressBookFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format), format);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                && format.equals(((ConvertCommand) other).format)); // state check
+    }
+}
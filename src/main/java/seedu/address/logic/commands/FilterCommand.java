@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagFilterPredicate;
+
+/**
+ * Lists all persons in address book whose tags match a combination of tags.
+ * Matching persons are looked up from the model's tag index instead of testing {@code predicate} on every person,
+ * and persons added or edited later are tested with {@code predicate}.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose tags match every one of the "
+            + "specified conditions and displays them as a list with index numbers.\n"
+            + "A condition matches if any of its tags, separated by '|', matches. "
+            + "A tag starting with '!' matches persons without that tag.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG[|TAG]... [" + PREFIX_TAG + "TAG[|TAG]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends|colleagues " + PREFIX_TAG + "!owesMoney";
+
+    private final TagFilterPredicate predicate;
+
+    public FilterCommand(TagFilterPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsMatching(predicate);
+        model.updateFilteredPersonList(new IndexedPersonPredicate(predicate, matches, model));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && predicate.equals(((FilterCommand) other).predicate)); // state check
+    }
+}
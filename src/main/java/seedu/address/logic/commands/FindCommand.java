@@ -2,13 +2,19 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.model.IndexedPersonPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matching persons are looked up from the model's name index instead of testing {@code predicate} on every person,
+ * and persons added or edited later are tested with {@code predicate}.
  */
 public class FindCommand extends Command {
 
@@ -28,7 +34,8 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Person> matches = model.getPersonsWithNameKeywords(predicate.getKeywords());
+        model.updateFilteredPersonList(new IndexedPersonPredicate(predicate, matches, model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists the persons in address book whose name contains a word similar to any of the argument keywords,
+ * closest matches first. Keyword matching is case insensitive and tolerates small typing mistakes.
+ * The closest matches are looked up from the model's index of name words. Persons added or edited later are listed
+ * too if their name has a similar word, so the list may then hold more than {@link #MAX_RESULTS} persons.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find~";
+
+    /** The maximum number of persons listed. */
+    public static final int MAX_RESULTS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons whose names contain words similar "
+            + "to any of the specified keywords (case-insensitive), allowing for small typing mistakes, and displays "
+            + "up to " + MAX_RESULTS + " of them as a list with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie bensen";
+
+    private final List<String> keywords;
+    private final NameSimilarToKeywordsPredicate predicate;
+
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        predicate = new NameSimilarToKeywordsPredicate(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(model.getPersonsWithSimilarNameWords(keywords, MAX_RESULTS));
+        model.updateFilteredPersonList(new IndexedPersonPredicate(predicate, matches, model),
+                Comparator.comparingInt(predicate::getDistance).thenComparing(person -> person.getName().fullName));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && keywords.equals(((FuzzyFindCommand) other).keywords)); // state check
+    }
+}
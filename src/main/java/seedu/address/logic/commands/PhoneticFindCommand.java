@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists all persons in address book whose name contains a word that sounds like any of the argument
+ * keywords. Words sound alike if they have the same Soundex code, so matching is case insensitive.
+ * Matching persons are looked up from the model's Soundex index instead of encoding the name of every person, and
+ * persons added or edited later are tested with a {@link NameSoundsLikeKeywordsPredicate}.
+ */
+public class PhoneticFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "findsound";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain words that "
+            + "sound like any of the specified keywords (case-insensitive) and displays them as a list with index "
+            + "numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alis benzon";
+
+    private final List<String> keywords;
+    private final NameSoundsLikeKeywordsPredicate predicate;
+
+    public PhoneticFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        predicate = new NameSoundsLikeKeywordsPredicate(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsWithSoundAlikeNameWords(keywords);
+        model.updateFilteredPersonList(new IndexedPersonPredicate(predicate, matches, model));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneticFindCommand // instanceof handles nulls
+                && keywords.equals(((PhoneticFindCommand) other).keywords)); // state check
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String ALTERNATIVE_SEPARATOR = "|";
+    public static final String NEGATION_MARKER = "!";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        List<String> conditions = argMultimap.getAllValues(PREFIX_TAG);
+        if (conditions.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<List<TagLiteral>> clauses = new ArrayList<>();
+        for (String condition : conditions) {
+            clauses.add(parseClause(condition));
+        }
+        return new FilterCommand(new TagFilterPredicate(clauses));
+    }
+
+    /**
+     * Parses a condition of the form {@code TAG[|TAG]...}, where each tag may start with {@code !},
+     * into the literals of a clause.
+     */
+    private static List<TagLiteral> parseClause(String condition) throws ParseException {
+        List<TagLiteral> clause = new ArrayList<>();
+        for (String alternative : condition.split("\\" + ALTERNATIVE_SEPARATOR, -1)) {
+            String trimmedAlternative = alternative.trim();
+            boolean isNegated = trimmedAlternative.startsWith(NEGATION_MARKER);
+            String tagName = isNegated ? trimmedAlternative.substring(NEGATION_MARKER.length()) : trimmedAlternative;
+            clause.add(new TagLiteral(ParserUtil.parseTag(tagName), isNegated));
+        }
+        return clause;
+    }
+
+}
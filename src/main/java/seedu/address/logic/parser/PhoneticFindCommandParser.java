@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.PhoneticFindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PhoneticFindCommand object
+ */
+public class PhoneticFindCommandParser implements Parser<PhoneticFindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PhoneticFindCommand
+     * and returns a PhoneticFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PhoneticFindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PhoneticFindCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+
+        return new PhoneticFindCommand(Arrays.asList(nameKeywords));
+    }
+
+}
@@ -3,9 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagFilterPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -15,6 +17,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,6 +47,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
     }
 
@@ -66,14 +70,70 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameKeywords(List<String> keywords) {
+        return persons.getPersonsWithNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons whose name contains a word that sounds like any of {@code keywords}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithSoundAlikeNameWords(List<String> keywords) {
+        return persons.getPersonsWithSoundAlikeNameWords(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose name has a word similar to any of {@code keywords}, ignoring case,
+     * ranked by edit distance.
+     */
+    public List<Person> getPersonsWithSimilarNameWords(List<String> keywords, int limit) {
+        return persons.getPersonsWithSimilarNameWords(keywords, limit);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsMatching(TagFilterPredicate filter) {
+        return persons.getPersonsMatching(filter);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words in persons' names that start with {@code prefix}, ignoring case.
+     */
+    public List<String> getNameWordCompletions(String prefix, int limit) {
+        return persons.getNameWordCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct tag names that start with {@code prefix}.
+     */
+    public List<String> getTagNameCompletions(String prefix, int limit) {
+        return persons.getTagNameCompletions(prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the end of the address book in one change.
+     * None of {@code persons} may already exist in the address book, and they must not contain duplicate persons.
+     */
+    public void addPersons(List<Person> persons) {
+        version++;
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -82,6 +142,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
     }
 
@@ -90,9 +151,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
     }
 
+    /**
+     * Returns the number of modifications made to this {@code AddressBook} since it was created.
+     * The version only grows, so an unchanged version means that the data has not been modified in between.
+     * It is incremented before the person list is changed, so that the listeners of the list, such as a
+     * {@code FilteredList} testing its predicate, already see the new version. A modification that fails may still
+     * increment it.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,26 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book holding the persons of another address book at the time it was created.
+ * As persons are immutable, copying the list of persons is enough to keep later changes out of it, and the snapshot
+ * can be read on another thread than the one the address book is confined to.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Person> persons;
+
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new ArrayList<>(source.getPersonList())));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+}
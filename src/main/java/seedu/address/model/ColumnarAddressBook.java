@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An immutable address book that keeps the fields of its persons in columns of primitive arrays rather than as a
+ * graph of {@code Person} objects, for books too large to hold as objects.
+ * Each string field is packed as UTF-8 into one byte array, with an offset column marking where each person's value
+ * starts. Tags are stored as ids into a table of the distinct tags, with an offset column marking each person's ids.
+ * <p>
+ * A {@code Person} is only created when an element of {@link #getPersonList()} is read. Views are not cached, so
+ * reading the same element twice returns equal but distinct objects.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private final StringColumn names;
+    private final StringColumn phones;
+    private final StringColumn emails;
+    private final StringColumn addresses;
+    private final int[] tagOffsets;
+    private final int[] tagIds;
+    private final Tag[] tagTable;
+    private final ObservableList<Person> personViews;
+
+    /**
+     * Creates a ColumnarAddressBook holding the Persons in the {@code toBeCopied}
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<Person> persons = toBeCopied.getPersonList();
+        int size = persons.size();
+
+        names = new StringColumn(size);
+        phones = new StringColumn(size);
+        emails = new StringColumn(size);
+        addresses = new StringColumn(size);
+        tagOffsets = new int[size + 1];
+        tagIds = new int[persons.stream().mapToInt(person -> person.getTags().size()).sum()];
+
+        Map<Tag, Integer> idsByTag = new HashMap<>();
+        List<Tag> distinctTags = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Person person = persons.get(i);
+            names.add(person.getName().fullName);
+            phones.add(person.getPhone().value);
+            emails.add(person.getEmail().value);
+            addresses.add(person.getAddress().value);
+
+            int tagCount = tagOffsets[i];
+            for (Tag tag : person.getTags()) {
+                tagIds[tagCount++] = idsByTag.computeIfAbsent(tag, unused -> {
+                    distinctTags.add(tag);
+                    return distinctTags.size() - 1;
+                });
+            }
+            tagOffsets[i + 1] = tagCount;
+        }
+        names.trimToSize();
+        phones.trimToSize();
+        emails.trimToSize();
+        addresses.trimToSize();
+        tagTable = distinctTags.toArray(new Tag[0]);
+
+        personViews = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonViews()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personViews;
+    }
+
+    /**
+     * Returns a new {@code Person} with the fields stored for the person at {@code index}.
+     */
+    private Person materialize(int index) {
+        Tag[] tags = new Tag[tagOffsets[index + 1] - tagOffsets[index]];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = tagTable[tagIds[tagOffsets[index] + i]];
+        }
+        return new Person(new Name(names.get(index)), new Phone(phones.get(index)), new Email(emails.get(index)),
+                new Address(addresses.get(index)), TagSet.of(tags));
+    }
+
+    @Override
+    public String toString() {
+        return personViews.size() + " persons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ColumnarAddressBook // instanceof handles nulls
+                && personViews.equals(((ColumnarAddressBook) other).personViews));
+    }
+
+    @Override
+    public int hashCode() {
+        return personViews.hashCode();
+    }
+
+    /**
+     * A read-only list that materializes each person when it is read.
+     */
+    private class PersonViews extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return materialize(index);
+        }
+
+        @Override
+        public int size() {
+            return tagOffsets.length - 1;
+        }
+    }
+
+    /**
+     * A column of strings packed as UTF-8 into a single byte array.
+     * The encoded values of a column cannot exceed {@code Integer.MAX_VALUE} bytes in total.
+     */
+    private static class StringColumn {
+        private static final int INITIAL_BYTES_PER_VALUE = 16;
+
+        private byte[] bytes;
+        private final int[] offsets;
+        private int size;
+
+        StringColumn(int capacity) {
+            bytes = new byte[(int) Math.min(Integer.MAX_VALUE, (capacity + 1L) * INITIAL_BYTES_PER_VALUE)];
+            offsets = new int[capacity + 1];
+        }
+
+        void add(String value) {
+            byte[] encoded = value.getBytes(UTF_8);
+            int start = offsets[size];
+            int end = Math.addExact(start, encoded.length);
+            if (end > bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE, Math.max(end, 2L * bytes.length)));
+            }
+            System.arraycopy(encoded, 0, bytes, start, encoded.length);
+            offsets[++size] = end;
+        }
+
+        void trimToSize() {
+            bytes = Arrays.copyOf(bytes, offsets[size]);
+        }
+
+        String get(int index) {
+            return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], UTF_8);
+        }
+    }
+}
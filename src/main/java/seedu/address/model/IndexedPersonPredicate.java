@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests persons with {@code predicate}, using the matches among the persons in the address book that have already
+ * been looked up from an index of the model.
+ * While the address book is unmodified, a person matches if it is one of those matches, so that filtering the whole
+ * list does not test {@code predicate} on every person. Once the address book has been modified, persons are tested
+ * with {@code predicate} itself, so that persons added or edited later are filtered like the others.
+ */
+public class IndexedPersonPredicate implements Predicate<Person> {
+    private final Predicate<Person> predicate;
+    private final Set<Person> currentMatches;
+    private final Model model;
+    private final long addressBookVersion;
+
+    /**
+     * {@code currentMatches} must be the persons in the address book of {@code model} that match {@code predicate}
+     * now, compared by reference.
+     */
+    public IndexedPersonPredicate(Predicate<Person> predicate, Set<Person> currentMatches, Model model) {
+        requireAllNonNull(predicate, currentMatches, model);
+        this.predicate = predicate;
+        this.currentMatches = currentMatches;
+        this.model = model;
+        this.addressBookVersion = model.getAddressBookVersion();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (model.getAddressBookVersion() == addressBookVersion) {
+            return currentMatches.contains(person);
+        }
+        return predicate.test(person);
+    }
+
+}
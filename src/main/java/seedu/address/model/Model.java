@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagFilterPredicate;
 
 /**
  * The API of the Model component.
@@ -52,11 +56,54 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever the address book is modified.
+     *
+     * @see AddressBook#getVersion()
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose name contains any of {@code keywords} as a whole word,
+     * ignoring case. The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the persons in the address book whose name contains a word that sounds like any of {@code keywords},
+     * as judged by their Soundex codes. The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithSoundAlikeNameWords(List<String> keywords);
+
+    /**
+     * Returns up to {@code limit} persons in the address book whose name has a word within a small edit distance of
+     * any of {@code keywords}, ignoring case. Persons with a closer match come first, and ties are ordered by name.
+     */
+    List<Person> getPersonsWithSimilarNameWords(List<String> keywords, int limit);
+
+    /**
+     * Returns the persons in the address book whose tags match {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsMatching(TagFilterPredicate filter);
+
+    /**
+     * Returns up to {@code limit} distinct words in the names of persons in the address book that start with
+     * {@code prefix}, ignoring case. The words are normalized to lower case and returned in lexicographical order.
+     */
+    List<String> getNameWordCompletions(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} distinct names of tags in the address book that start with {@code prefix},
+     * in lexicographical order.
+     */
+    List<String> getTagNameCompletions(String prefix, int limit);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -69,6 +116,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons after the persons in the address book.
+     * None of {@code persons} may already exist in the address book, and they must not contain duplicate persons.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -84,4 +137,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator} instead of their order in the address book.
+     * The order is reset by {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
 }
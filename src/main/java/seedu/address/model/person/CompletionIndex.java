@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PrefixTrie;
+
+/**
+ * Prefix tries over the words in persons' names and over their tag names, used to complete partially typed input.
+ * Name words are normalized as in {@link StringUtil#toNormalizedWords(String)}, so they can be completed regardless of
+ * case. Tag names are kept as they are, since tags are case sensitive.
+ */
+class CompletionIndex {
+
+    private final PrefixTrie nameWords = new PrefixTrie();
+    private final PrefixTrie tagNames = new PrefixTrie();
+
+    void add(Person person) {
+        StringUtil.toNormalizedWords(person.getName().fullName).forEach(nameWords::add);
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+    }
+
+    void remove(Person person) {
+        StringUtil.toNormalizedWords(person.getName().fullName).forEach(nameWords::remove);
+        for (Tag tag : person.getTags()) {
+            tagNames.remove(tag.tagName);
+        }
+    }
+
+    void clear() {
+        nameWords.clear();
+        tagNames.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} normalized name words starting with {@code prefix}, ignoring case.
+     */
+    List<String> getNameWordCompletions(String prefix, int limit) {
+        return nameWords.getWordsWithPrefix(StringUtil.normalizeWord(prefix), limit);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names starting with {@code prefix}.
+     */
+    List<String> getTagNameCompletions(String prefix, int limit) {
+        return tagNames.getWordsWithPrefix(prefix, limit);
+    }
+}
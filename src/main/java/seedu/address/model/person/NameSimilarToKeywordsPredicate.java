@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word similar to any of the keywords given, ignoring case.
+ * A keyword shorter than 3 characters must match a word exactly, a keyword of 3 to 5 characters may be one edit away
+ * from a word and a longer keyword two edits away.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Person> {
+
+    /** Keywords shorter than this must match a word exactly. */
+    private static final int MIN_LENGTH_FOR_ONE_EDIT = 3;
+    /** Keywords at least this long may be two edits away from a word. */
+    private static final int MIN_LENGTH_FOR_TWO_EDITS = 6;
+
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the smallest edit distance between a word in the name of {@code person} and a keyword that the word is
+     * similar to, or {@code Integer.MAX_VALUE} if the name has no such word.
+     */
+    public int getDistance(Person person) {
+        int distance = Integer.MAX_VALUE;
+        for (String word : StringUtil.toNormalizedWords(person.getName().fullName)) {
+            for (String keyword : keywords) {
+                int maxDistance = maxEditDistanceFor(keyword);
+                int wordDistance = StringUtil.boundedEditDistance(word, keyword, maxDistance);
+                if (wordDistance <= maxDistance) {
+                    distance = Math.min(distance, wordDistance);
+                }
+            }
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the largest edit distance at which a word is similar to {@code keyword}, which must be normalized.
+     */
+    static int maxEditDistanceFor(String keyword) {
+        if (keyword.length() >= MIN_LENGTH_FOR_TWO_EDITS) {
+            return 2;
+        }
+        return keyword.length() >= MIN_LENGTH_FOR_ONE_EDIT ? 1 : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word that sounds like any of the keywords given, as judged by their
+ * Soundex codes. Keywords without a code never match.
+ *
+ * @see StringUtil#toSoundex(String)
+ */
+public class NameSoundsLikeKeywordsPredicate implements Predicate<Person> {
+    private final Set<String> keywordCodes;
+
+    public NameSoundsLikeKeywordsPredicate(Collection<String> keywords) {
+        requireNonNull(keywords);
+        keywordCodes = keywords.stream()
+                .map(StringUtil::toSoundex)
+                .filter(code -> !code.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : StringUtil.toNormalizedWords(person.getName().fullName)) {
+            if (keywordCodes.contains(StringUtil.toSoundex(word))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSoundsLikeKeywordsPredicate // instanceof handles nulls
+                && keywordCodes.equals(((NameSoundsLikeKeywordsPredicate) other).keywordCodes)); // state check
+    }
+
+}
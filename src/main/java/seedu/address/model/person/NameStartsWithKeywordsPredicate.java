@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word starting with any of the keywords given, ignoring case.
+ * Unlike {@link NameContainsKeywordsPredicate}, a partially typed keyword already matches, so the predicate suits
+ * searching as the user types.
+ */
+public class NameStartsWithKeywordsPredicate implements Predicate<Person> {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<String> keywords;
+
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.stream().map(StringUtil::normalizeWord).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the keywords, normalized with {@link StringUtil#normalizeWord(String)}.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : WHITESPACE.split(person.getName().fullName)) {
+            for (String keyword : keywords) {
+                if (word.regionMatches(true, 0, keyword, 0, keyword.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every person matching {@code other} also matches this predicate, because {@code other} has as
+     * many keywords as this predicate and each of them starts with the corresponding keyword of this predicate.
+     * A search for {@code other} then only needs to look among the persons matching this predicate.
+     */
+    public boolean isRefinedBy(NameStartsWithKeywordsPredicate other) {
+        requireNonNull(other);
+        if (keywords.size() != other.keywords.size()) {
+            return false;
+        }
+        for (int i = 0; i < keywords.size(); i++) {
+            if (!other.keywords.get(i).startsWith(keywords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameStartsWithKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameStartsWithKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.TrigramIndex;
+
+/**
+ * An inverted index from the normalized words of each person's name to the persons with that word in their name.
+ * Persons are tracked by reference, so the index must be updated with the same instances that are held in the list.
+ * The distinct words are also kept in a {@link TrigramIndex} to look up the words similar to a misspelt keyword, and
+ * grouped by their Soundex code to look up the words that sound like a keyword.
+ *
+ * @see StringUtil#toNormalizedWords(String)
+ */
+class NameTokenIndex {
+
+    private static final Comparator<Map.Entry<Person, Integer>> BY_DISTANCE_THEN_NAME =
+            Comparator.<Map.Entry<Person, Integer>>comparingInt(Map.Entry::getValue)
+                    .thenComparing(entry -> entry.getKey().getName().fullName);
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final TrigramIndex vocabulary = new TrigramIndex();
+    private final Map<String, Set<String>> wordsBySoundex = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting list of every word in its name.
+     */
+    void add(Person person) {
+        for (String token : StringUtil.toNormalizedWords(person.getName().fullName)) {
+            postings.computeIfAbsent(token, this::newWord).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of every word in its name.
+     */
+    void remove(Person person) {
+        for (String token : StringUtil.toNormalizedWords(person.getName().fullName)) {
+            Set<Person> postingList = postings.get(token);
+            if (postingList != null) {
+                postingList.remove(person);
+                if (postingList.isEmpty()) {
+                    postings.remove(token);
+                    vocabulary.remove(token);
+                    removeSoundex(token);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        vocabulary.clear();
+        wordsBySoundex.clear();
+    }
+
+    /**
+     * Returns the union of the posting lists of {@code keywords}, i.e. the persons whose name contains any of the
+     * keywords as a whole word, ignoring case. The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithAnyWord(Collection<String> keywords) {
+        Set<Person> matches = newPostingList(keywords.size());
+        for (String keyword : keywords) {
+            matches.addAll(postings.getOrDefault(StringUtil.normalizeWord(keyword), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name contains a word with the same Soundex code as any of {@code keywords}.
+     * Each keyword is encoded once and its code is looked up in the index, so no names are encoded by the query.
+     * Keywords without a code never match. The returned set compares persons by reference.
+     *
+     * @see StringUtil#toSoundex(String)
+     */
+    Set<Person> getPersonsWithSoundAlikeWord(Collection<String> keywords) {
+        Set<Person> matches = newPostingList(keywords.size());
+        for (String keyword : keywords) {
+            for (String word : wordsBySoundex.getOrDefault(StringUtil.toSoundex(keyword), Collections.emptySet())) {
+                matches.addAll(postings.get(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a word in their name similar to any of {@code keywords}, ignoring case,
+     * ordered by the smallest edit distance between such a word and a keyword and then by name.
+     * Words are similar to a keyword as judged by {@link NameSimilarToKeywordsPredicate}.
+     * Only the best {@code limit} matches are kept while ranking, in a bounded heap.
+     */
+    List<Person> getPersonsWithSimilarWords(Collection<String> keywords, int limit) {
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String normalizedKeyword = StringUtil.normalizeWord(keyword);
+            int maxDistance = NameSimilarToKeywordsPredicate.maxEditDistanceFor(normalizedKeyword);
+            vocabulary.getWordsWithin(normalizedKeyword, maxDistance)
+                    .forEach((word, distance) -> {
+                        for (Person person : postings.get(word)) {
+                            distances.merge(person, distance, Math::min);
+                        }
+                    });
+        }
+
+        // max-heap of the best matches so far, whose head is the worst of them
+        PriorityQueue<Map.Entry<Person, Integer>> bestMatches = new PriorityQueue<>(BY_DISTANCE_THEN_NAME.reversed());
+        for (Map.Entry<Person, Integer> match : distances.entrySet()) {
+            bestMatches.add(match);
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        }
+
+        List<Map.Entry<Person, Integer>> ranked = new ArrayList<>(bestMatches);
+        ranked.sort(BY_DISTANCE_THEN_NAME);
+        List<Person> persons = new ArrayList<>(ranked.size());
+        for (Map.Entry<Person, Integer> match : ranked) {
+            persons.add(match.getKey());
+        }
+        return persons;
+    }
+
+    /**
+     * Adds the new word {@code token} to the vocabulary and returns an empty posting list for it.
+     */
+    private Set<Person> newWord(String token) {
+        vocabulary.add(token);
+        String soundex = StringUtil.toSoundex(token);
+        if (!soundex.isEmpty()) {
+            wordsBySoundex.computeIfAbsent(soundex, unused -> new HashSet<>()).add(token);
+        }
+        return newPostingList(1);
+    }
+
+    /**
+     * Removes the word {@code token}, which no longer appears in any name, from its Soundex group.
+     */
+    private void removeSoundex(String token) {
+        String soundex = StringUtil.toSoundex(token);
+        Set<String> soundAlikeWords = wordsBySoundex.get(soundex);
+        if (soundAlikeWords != null) {
+            soundAlikeWords.remove(token);
+            if (soundAlikeWords.isEmpty()) {
+                wordsBySoundex.remove(soundex);
+            }
+        }
+    }
+
+    private static Set<Person> newPostingList(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+}
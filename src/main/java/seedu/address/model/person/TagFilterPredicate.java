@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person}'s tags satisfy a boolean combination of tags.
+ * The combination is a conjunction of clauses, and each clause is a disjunction of literals. A literal is either a tag,
+ * which matches persons with that tag, or a negated tag, which matches persons without it.
+ * For example, {@code [[friends, colleagues], [!owesMoney]]} matches persons tagged {@code friends} or
+ * {@code colleagues} who are not tagged {@code owesMoney}.
+ */
+public class TagFilterPredicate implements Predicate<Person> {
+    private final List<List<TagLiteral>> clauses;
+
+    /**
+     * Every clause must contain at least one literal.
+     */
+    public TagFilterPredicate(List<List<TagLiteral>> clauses) {
+        requireAllNonNull(clauses);
+        List<List<TagLiteral>> copy = new ArrayList<>();
+        for (List<TagLiteral> clause : clauses) {
+            requireAllNonNull(clause);
+            if (clause.isEmpty()) {
+                throw new IllegalArgumentException("A tag filter clause must contain at least one tag");
+            }
+            copy.add(Collections.unmodifiableList(new ArrayList<>(clause)));
+        }
+        this.clauses = Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Returns the clauses of this filter, all of which must be satisfied for a person to match.
+     */
+    public List<List<TagLiteral>> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return clauses.stream()
+                .allMatch(clause -> clause.stream().anyMatch(literal -> literal.test(person)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagFilterPredicate // instanceof handles nulls
+                && clauses.equals(((TagFilterPredicate) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return clauses.stream()
+                .map(clause -> clause.stream().map(TagLiteral::toString).collect(Collectors.joining("|")))
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * A tag, or the negation of a tag, in a {@code TagFilterPredicate}.
+     */
+    public static class TagLiteral {
+        private final Tag tag;
+        private final boolean isNegated;
+
+        /**
+         * Constructs a literal that matches persons with {@code tag}, or persons without it if {@code isNegated}.
+         */
+        public TagLiteral(Tag tag, boolean isNegated) {
+            requireNonNull(tag);
+            this.tag = tag;
+            this.isNegated = isNegated;
+        }
+
+        public Tag getTag() {
+            return tag;
+        }
+
+        public boolean isNegated() {
+            return isNegated;
+        }
+
+        /**
+         * Returns true if {@code person} satisfies this literal.
+         */
+        public boolean test(Person person) {
+            return person.getTags().contains(tag) != isNegated;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TagLiteral // instanceof handles nulls
+                    && tag.equals(((TagLiteral) other).tag)
+                    && isNegated == ((TagLiteral) other).isNegated); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return isNegated ? ~tag.hashCode() : tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return (isNegated ? "!" : "") + tag.tagName;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A bitmap index from each tag to the persons with that tag.
+ * Every person is given an ordinal that stays the same for as long as the person is in the index, and each tag maps to
+ * the set of ordinals of the persons tagged with it. Ordinals freed by removed persons are reused, so the bitmaps stay
+ * dense and tag filters can be evaluated as bitwise operations over a few machine words per 64 persons.
+ * Persons are tracked by reference, so the index must be updated with the same instances that are held in the list.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final BitSet liveOrdinals = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+
+    /**
+     * Assigns {@code person} an ordinal and sets it in the bitmap of each of its tags.
+     */
+    void add(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        liveOrdinals.set(ordinal);
+        ordinals.put(person, ordinal);
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Clears the ordinal of {@code person} from the bitmaps of its tags and frees the ordinal for reuse.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(tag);
+            }
+        }
+        liveOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    void clear() {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        liveOrdinals.clear();
+        freeOrdinals.clear();
+        tagBitmaps.clear();
+    }
+
+    /**
+     * Returns the persons matching {@code filter}, computed by intersecting the union of each clause's bitmaps.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsMatching(TagFilterPredicate filter) {
+        BitSet result = (BitSet) liveOrdinals.clone();
+        for (List<TagLiteral> clause : filter.getClauses()) {
+            result.and(evaluate(clause));
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>(result.cardinality()));
+        result.stream().forEach(ordinal -> matches.add(personsByOrdinal.get(ordinal)));
+        return matches;
+    }
+
+    /**
+     * Returns the bitmap of persons satisfying any literal in {@code clause}.
+     */
+    private BitSet evaluate(List<TagLiteral> clause) {
+        BitSet union = new BitSet();
+        for (TagLiteral literal : clause) {
+            BitSet tagged = tagBitmaps.getOrDefault(literal.getTag(), new BitSet());
+            if (literal.isNegated()) {
+                BitSet untagged = (BitSet) liveOrdinals.clone();
+                untagged.andNot(tagged);
+                union.or(untagged);
+            } else {
+                union.or(tagged);
+            }
+        }
+        return union;
+    }
+}
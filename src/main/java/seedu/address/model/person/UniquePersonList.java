@@ -1,10 +1,15 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +25,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered in constant time from hash indexes on (name, phone) and (name, email), which are kept
+ * in step with the backing list by every mutating operation. The list also maintains search indexes over its persons,
+ * such as an inverted index of the words in their names, a bitmap index of their tags and prefix tries for completing
+ * partially typed name words and tag names.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +38,25 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Two persons have the same identity if they share a name and either a phone or an email, so a person is present
+     * iff one of its two keys is. The values count the persons holding each key, as {@link #setPerson} may let two
+     * persons share a key when the edited person keeps the identity of the one it replaces.
+     */
+    private final Map<IdentityKey, Integer> namePhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Integer> nameEmailIndex = new HashMap<>();
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final CompletionIndex completionIndex = new CompletionIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return namePhoneIndex.containsKey(new IdentityKey(toCheck.getName(), toCheck.getPhone()))
+                || nameEmailIndex.containsKey(new IdentityKey(toCheck.getName(), toCheck.getEmail()));
     }
 
     /**
@@ -46,6 +69,32 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list in one change.
+     * None of {@code persons} may already exist in the list, and they must not contain duplicate persons.
+     * Uniqueness is validated before any person is added, so the list is left unchanged if it fails.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons with the same identity, if any.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Set<IdentityKey> newKeys = new HashSet<>(capacityFor(2 * persons.size()));
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (contains(person)) {
+                throw new DuplicatePersonException(findSamePerson(internalList, person), person);
+            }
+            if (!newKeys.add(new IdentityKey(person.getName(), person.getPhone()))
+                    || !newKeys.add(new IdentityKey(person.getName(), person.getEmail()))) {
+                throw new DuplicatePersonException(findSamePerson(persons.subList(0, i), person), person);
+            }
+        }
+
+        internalList.addAll(persons);
+        persons.forEach(this::addToIndexes);
     }
 
     /**
@@ -65,7 +114,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -74,27 +125,106 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacement.namePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacement.nameEmailIndex);
+        rebuildSearchIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in a single hashed pass before the backing list is replaced in one change.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons with the same identity, if any.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<IdentityKey, Integer> newNamePhoneIndex = new HashMap<>(capacityFor(persons.size()));
+        Map<IdentityKey, Integer> newNameEmailIndex = new HashMap<>(capacityFor(persons.size()));
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            IdentityKey namePhone = new IdentityKey(person.getName(), person.getPhone());
+            IdentityKey nameEmail = new IdentityKey(person.getName(), person.getEmail());
+            if (newNamePhoneIndex.containsKey(namePhone) || newNameEmailIndex.containsKey(nameEmail)) {
+                throw new DuplicatePersonException(findSamePerson(persons.subList(0, i), person), person);
+            }
+            newNamePhoneIndex.put(namePhone, 1);
+            newNameEmailIndex.put(nameEmail, 1);
         }
 
         internalList.setAll(persons);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(newNamePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(newNameEmailIndex);
+        rebuildSearchIndexes();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The result is looked up from the name index rather than by scanning the list, and compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameTokenIndex.getPersonsWithAnyWord(keywords);
+    }
+
+    /**
+     * Returns the persons whose name contains a word that sounds like any of {@code keywords}, i.e. that has the same
+     * Soundex code. The result is looked up from the name index, and compares persons by reference.
+     */
+    public Set<Person> getPersonsWithSoundAlikeNameWords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameTokenIndex.getPersonsWithSoundAlikeWord(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose name has a word similar to any of {@code keywords}, ignoring case,
+     * ranked by edit distance. Candidate words are found through the trigram index of name words rather than by
+     * computing the distance to every name.
+     */
+    public List<Person> getPersonsWithSimilarNameWords(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        checkArgument(limit >= 0, "Limit cannot be negative");
+        return nameTokenIndex.getPersonsWithSimilarWords(keywords, limit);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code filter}.
+     * The result is computed from the tag bitmaps rather than by scanning the list, and compares persons by reference.
+     */
+    public Set<Person> getPersonsMatching(TagFilterPredicate filter) {
+        requireNonNull(filter);
+        return tagIndex.getPersonsMatching(filter);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words in persons' names that start with {@code prefix}, ignoring case.
+     * The words are normalized to lower case and returned in lexicographical order.
+     */
+    public List<String> getNameWordCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return completionIndex.getNameWordCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct tag names that start with {@code prefix}, in lexicographical order.
+     */
+    public List<String> getTagNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return completionIndex.getTagNameCompletions(prefix, limit);
     }
 
     /**
@@ -122,16 +252,81 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to the identity and search indexes.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private void addToIndexes(Person person) {
+        namePhoneIndex.merge(new IdentityKey(person.getName(), person.getPhone()), 1, Integer::sum);
+        nameEmailIndex.merge(new IdentityKey(person.getName(), person.getEmail()), 1, Integer::sum);
+        nameTokenIndex.add(person);
+        tagIndex.add(person);
+        completionIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the identity and search indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        namePhoneIndex.computeIfPresent(new IdentityKey(person.getName(), person.getPhone()),
+                (key, count) -> count == 1 ? null : count - 1);
+        nameEmailIndex.computeIfPresent(new IdentityKey(person.getName(), person.getEmail()),
+                (key, count) -> count == 1 ? null : count - 1);
+        nameTokenIndex.remove(person);
+        tagIndex.remove(person);
+        completionIndex.remove(person);
+    }
+
+    /**
+     * Rebuilds the search indexes from the contents of the backing list.
+     */
+    private void rebuildSearchIndexes() {
+        nameTokenIndex.clear();
+        tagIndex.clear();
+        completionIndex.clear();
+        for (Person person : internalList) {
+            nameTokenIndex.add(person);
+            tagIndex.add(person);
+            completionIndex.add(person);
+        }
+    }
+
+    /**
+     * Returns the first person in {@code persons} with the same identity as {@code person}.
+     * Only used to report a duplicate, so a linear scan is acceptable.
+     */
+    private static Person findSamePerson(List<Person> persons, Person person) {
+        return persons.stream().filter(person::isSamePerson).findFirst().orElseThrow(AssertionError::new);
+    }
+
+    /**
+     * Returns the initial capacity of a {@code HashMap} that holds {@code size} entries without rehashing.
+     */
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * Hash key made of a person's name and one other identity field.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + field.hashCode();
         }
-        return true;
     }
 }
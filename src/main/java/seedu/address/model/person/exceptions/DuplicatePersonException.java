@@ -1,11 +1,43 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final Person first;
+    private final Person second;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        first = null;
+        second = null;
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} naming the two persons {@code first} and {@code second}
+     * that have the same identity.
+     */
+    public DuplicatePersonException(Person first, Person second) {
+        super("Operation would result in duplicate persons: " + first + " and " + second);
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Returns the first of the two persons with the same identity, or null if they are not known.
+     */
+    public Person getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns the second of the two persons with the same identity, or null if they are not known.
+     */
+    public Person getSecond() {
+        return second;
     }
 }
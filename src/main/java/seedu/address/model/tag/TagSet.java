@@ -0,0 +1,136 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, iterated in order of tag name.
+ * The tags are kept in a sorted array, which is far smaller than a {@code HashSet} for the few tags a person usually
+ * has, and the hash code is computed once on creation.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] sortedTags) {
+        tags = sortedTags;
+        int sum = 0;
+        for (Tag tag : sortedTags) {
+            sum += tag.hashCode();
+        }
+        hashCode = sum;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     * Returns {@code tags} itself if it is already a {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        for (Tag tag : sortedTags) {
+            requireNonNull(tag);
+        }
+        Arrays.sort(sortedTags, BY_NAME);
+
+        int distinctCount = 1;
+        for (int i = 1; i < sortedTags.length; i++) {
+            if (!sortedTags[i].equals(sortedTags[distinctCount - 1])) {
+                sortedTags[distinctCount++] = sortedTags[i];
+            }
+        }
+        return new TagSet(distinctCount == sortedTags.length ? sortedTags : Arrays.copyOf(sortedTags, distinctCount));
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Tag... tags) {
+        return of(Arrays.asList(tags));
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator(); // does not support remove
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(tags, (Tag) other, BY_NAME) >= 0;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return hashCode == otherTagSet.hashCode && Arrays.equals(tags, otherTagSet.tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
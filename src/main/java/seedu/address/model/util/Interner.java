@@ -0,0 +1,34 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Maps equal immutable values to one shared instance, as {@link String#intern()} does for strings.
+ * Interned instances are only weakly held, so a value that is no longer used anywhere else can still be garbage
+ * collected. All methods are thread-safe.
+ *
+ * @param <T> an immutable type whose {@code equals} and {@code hashCode} depend only on its value
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, which is {@code value} itself if no equal value is
+     * currently interned.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T sharedInstance = reference == null ? null : reference.get();
+        if (sharedInstance == null) {
+            instances.put(value, new WeakReference<>(value));
+            sharedInstance = value;
+        }
+        return sharedInstance;
+    }
+}
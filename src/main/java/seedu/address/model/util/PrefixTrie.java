@@ -0,0 +1,196 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed prefix trie (radix tree) over a multiset of words, used to look up the words starting with a prefix.
+ * Each edge is labelled with a substring and every node except the root has either a word ending at it or at least two
+ * children, so a lookup takes time proportional to the length of the prefix plus the number of words returned.
+ * Words added several times are kept until they have been removed as many times.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node("");
+
+    /**
+     * Adds one occurrence of {@code word} to the trie.
+     * @param word cannot be null or empty
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        checkArgument(!word.isEmpty(), "Word cannot be empty");
+
+        Node node = root;
+        int matched = 0;
+        while (matched < word.length()) {
+            Node child = node.children.get(word.charAt(matched));
+            if (child == null) {
+                Node leaf = new Node(word.substring(matched));
+                node.children.put(leaf.label.charAt(0), leaf);
+                node = leaf;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, word, matched);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            matched += common;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code word} from the trie. Does nothing if the trie does not contain {@code word}.
+     * @param word cannot be null
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        remove(root, word, 0);
+    }
+
+    public void clear() {
+        root.children.clear();
+    }
+
+    /**
+     * Returns true if the trie contains at least one occurrence of {@code word}.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        Node node = root;
+        int matched = 0;
+        while (matched < word.length()) {
+            node = node.children.get(word.charAt(matched));
+            if (node == null || !word.startsWith(node.label, matched)) {
+                return false;
+            }
+            matched += node.label.length();
+        }
+        return node.count > 0;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words starting with {@code prefix}, in lexicographical order.
+     * @param prefix cannot be null
+     * @param limit must not be negative
+     */
+    public List<String> getWordsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit cannot be negative");
+
+        List<String> words = new ArrayList<>();
+        Node node = root;
+        StringBuilder path = new StringBuilder();
+        int matched = 0;
+        while (matched < prefix.length()) {
+            node = node.children.get(prefix.charAt(matched));
+            if (node == null) {
+                return words;
+            }
+            int common = commonPrefixLength(node.label, prefix, matched);
+            if (common < node.label.length() && matched + common < prefix.length()) {
+                return words; // the prefix leaves the trie in the middle of this edge
+            }
+            path.append(node.label);
+            matched += common;
+        }
+
+        collectWords(node, path, words, limit);
+        return words;
+    }
+
+    /**
+     * Appends the words in the subtree of {@code node}, whose path from the root spells {@code path}, to
+     * {@code words} in lexicographical order until {@code words} has {@code limit} elements.
+     */
+    private static void collectWords(Node node, StringBuilder path, List<String> words, int limit) {
+        if (words.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            words.add(path.toString());
+        }
+        for (Node child : node.children.values()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            int pathLength = path.length();
+            path.append(child.label);
+            collectWords(child, path, words, limit);
+            path.setLength(pathLength);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the suffix of {@code word} starting at {@code matched} from the subtree of
+     * {@code node}, then restores the invariants of the trie on the way back up.
+     */
+    private static void remove(Node node, String word, int matched) {
+        if (matched == word.length()) {
+            if (node.count > 0) {
+                node.count--;
+            }
+            return;
+        }
+
+        Node child = node.children.get(word.charAt(matched));
+        if (child == null || !word.startsWith(child.label, matched)) {
+            return;
+        }
+        remove(child, word, matched + child.label.length());
+
+        if (child.count == 0 && child.children.isEmpty()) {
+            node.children.remove(child.label.charAt(0));
+        } else if (child.count == 0 && child.children.size() == 1) {
+            Node grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            node.children.put(grandchild.label.charAt(0), grandchild);
+        }
+    }
+
+    /**
+     * Splits the edge from {@code parent} to {@code child} after its first {@code length} characters and returns the
+     * node inserted at the split.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the suffix of {@code word} starting at
+     * {@code offset}.
+     */
+    private static int commonPrefixLength(String label, String word, int offset) {
+        int maxLength = Math.min(label.length(), word.length() - offset);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == word.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the trie, reached from its parent by an edge labelled {@code label}.
+     */
+    private static class Node {
+        private String label;
+        private int count;
+        private final Map<Character, Node> children = new TreeMap<>();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from the trigrams (substrings of length 3) of a set of words to the words containing them, used to find the
+ * words within a small edit distance of a query without comparing the query against every word.
+ * <p>
+ * Words are padded at both ends before being split into trigrams. A single edit changes at most three of the
+ * trigrams of a word, so a word within edit distance {@code k} of the query must share at least
+ * {@code t - 3k} of the query's {@code t} distinct trigrams. Only the words passing this count filter and the
+ * length filter have their edit distance computed.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "\0\0";
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index. Does nothing if the index already contains {@code word}.
+     * @param word cannot be null
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (!wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word)) {
+            return;
+        }
+        for (String trigram : toTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index. Does nothing if the index does not contain {@code word}.
+     * @param word cannot be null
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Set<String> sameLengthWords = wordsByLength.get(word.length());
+        if (sameLengthWords == null || !sameLengthWords.remove(word)) {
+            return;
+        }
+        if (sameLengthWords.isEmpty()) {
+            wordsByLength.remove(word.length());
+        }
+        for (String trigram : toTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    public void clear() {
+        wordsByTrigram.clear();
+        wordsByLength.clear();
+    }
+
+    /**
+     * Returns the words in the index within Levenshtein distance {@code maxDistance} of {@code query}, mapped to their
+     * distance from {@code query}.
+     * @param query cannot be null
+     * @param maxDistance must not be negative
+     */
+    public Map<String, Integer> getWordsWithin(String query, int maxDistance) {
+        requireNonNull(query);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        Map<String, Integer> matches = new HashMap<>();
+        for (String candidate : getCandidates(query, maxDistance)) {
+            int distance = StringUtil.boundedEditDistance(query, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                matches.put(candidate, distance);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words that pass the length filter and the trigram count filter for {@code query}.
+     * If the count filter cannot rule out any word, all words passing the length filter are returned.
+     */
+    private Collection<String> getCandidates(String query, int maxDistance) {
+        Set<String> queryTrigrams = toTrigrams(query);
+        int minCommonTrigrams = queryTrigrams.size() - GRAM_LENGTH * maxDistance;
+
+        List<String> candidates = new ArrayList<>();
+        if (minCommonTrigrams <= 0) {
+            for (int length = query.length() - maxDistance; length <= query.length() + maxDistance; length++) {
+                candidates.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+            }
+            return candidates;
+        }
+
+        Map<String, Integer> commonTrigramCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                if (Math.abs(word.length() - query.length()) <= maxDistance) {
+                    commonTrigramCounts.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        commonTrigramCounts.forEach((word, count) -> {
+            if (count >= minCommonTrigrams) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} after padding it at both ends.
+     */
+    private static Set<String> toTrigrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= padded.length(); start++) {
+            trigrams.add(padded.substring(start, start + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -17,6 +18,11 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format that address books are saved in.
+     */
+    AddressBookFormat getAddressBookFormat();
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -42,4 +48,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until the address books given to {@link #saveAddressBook(ReadOnlyAddressBook)} so far are written to the
+     * storage.
+     * @throws IOException if there was any problem writing them, that was not reported by an earlier call.
+     */
+    void flush() throws IOException;
+
 }
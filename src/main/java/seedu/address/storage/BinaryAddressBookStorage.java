@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * <p>
+ * The file starts with the bytes {@link #MAGIC} and the format version. Then come the number of distinct tags and
+ * their names, followed by the number of persons and each person's name, phone, email, address, number of tags and
+ * the index of each of its tags among the distinct tags. The file ends with the person index, which is the position
+ * of each person in the file, followed by the position of the person index itself. Strings are UTF-8 bytes after
+ * their length, and all numbers are big-endian {@code int}s, apart from the {@code short} format version and the
+ * {@code long} positions.
+ * <p>
+ * Files of format version 1, which have no person index, can still be read, but not through
+ * {@link #readMappedAddressBook(Path)}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The bytes that every file in this format starts with, which are "AB3B" in ASCII. */
+    public static final byte[] MAGIC = {'A', 'B', '3', 'B'};
+    public static final short FORMAT_VERSION = 2;
+    /** The oldest format version that can still be read. */
+    public static final short OLDEST_FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Not an address book in binary format";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary format version %1$d";
+    public static final String MESSAGE_INVALID_COUNT = "Invalid count or length %1$d";
+    public static final String MESSAGE_TRUNCATED = "Unexpected end of file";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Invalid tag index %1$d";
+    public static final String MESSAGE_NO_PERSON_INDEX = "Binary format version %1$d has no person index";
+    public static final String MESSAGE_INVALID_PERSON_INDEX = "Invalid person index";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // The fewest bytes taken by each item, to reject counts that cannot fit in the file before allocating for them
+    static final int MIN_TAG_BYTES = Integer.BYTES + 1;
+    private static final int MIN_PERSON_BYTES = 5 * Integer.BYTES;
+    private static final int MIN_TAG_INDEX_BYTES = Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        return startsWith(filePath, MAGIC);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@code magic}.
+     */
+    static boolean startsWith(Path filePath, byte[] magic) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer start = ByteBuffer.allocate(magic.length);
+            while (start.hasRemaining()) {
+                if (channel.read(start) < 0) {
+                    return false;
+                }
+            }
+            return Arrays.equals(start.array(), magic);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(readPersons(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the persons in the file at {@code filePath}, without checking them for duplicates.
+     */
+    static List<Person> readPersons(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return readPersons(new ChannelReader(channel));
+        }
+    }
+
+    private static List<Person> readPersons(ChannelReader in) throws IOException, IllegalValueException {
+        if (!Arrays.equals(in.readBytes(MAGIC.length), MAGIC)) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        checkVersion(in.readShort());
+
+        Tag[] tags = new Tag[in.readCount(MIN_TAG_BYTES)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = toModelTag(in.readString());
+        }
+
+        int personCount = in.readCount(MIN_PERSON_BYTES);
+        ParallelPersonConverter<PersonRecord> converter = new ParallelPersonConverter<>(PersonRecord::toModelType);
+        for (int i = 0; i < personCount; i++) {
+            String name = in.readString();
+            String phone = in.readString();
+            String email = in.readString();
+            String address = in.readString();
+            Tag[] personTags = new Tag[in.readCount(MIN_TAG_INDEX_BYTES)];
+            for (int j = 0; j < personTags.length; j++) {
+                int tagIndex = in.readInt();
+                if (tagIndex < 0 || tagIndex >= tags.length) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG_INDEX, tagIndex));
+                }
+                personTags[j] = tags[tagIndex];
+            }
+            converter.add(new PersonRecord(name, phone, email, address, personTags));
+        }
+        // The person index is not needed when all the persons are read in order
+        return converter.finish();
+    }
+
+    /**
+     * Throws an {@code IOException} if files of format {@code version} cannot be read.
+     */
+    static void checkVersion(short version) throws IOException {
+        if (version < OLDEST_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    static Tag toModelTag(String tagName) throws IllegalValueException {
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return Tag.of(tagName);
+    }
+
+    /**
+     * Opens the address book at {@code filePath} by mapping the file into memory, without reading its persons.
+     * Each person is only decoded from the file when it is read from the person list of the returned address book,
+     * so opening takes the same time however many persons there are. See {@link MappedAddressBook}.
+     * <p>
+     * The app itself does not open its data file this way: the indexes of the model need every person anyway, and
+     * a file that is still mapped cannot be rewritten in place by a later save on every platform, as a mapping is
+     * only released once it is garbage collected. This is meant for tools that look at a few persons of a large book
+     * without changing it, such as {@code StorageFormatBenchmark}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, or has no person index.
+     */
+    public Optional<ReadOnlyAddressBook> readMappedAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(new MappedAddressBook(channel));
+        } catch (IOException ioe) {
+            logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        writePersons(addressBook.getPersonList(), filePath, false);
+    }
+
+    /**
+     * Writes {@code persons} to the existing file at {@code filePath}, replacing its contents.
+     * If {@code isForced} is true, the file is also forced to the storage device.
+     */
+    static void writePersons(List<Person> persons, Path filePath, boolean isForced) throws IOException {
+        Map<Tag, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag, tagIndexes.size());
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelWriter out = new ChannelWriter(channel);
+            out.writeBytes(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+
+            out.writeInt(tagIndexes.size());
+            for (Tag tag : tagIndexes.keySet()) {
+                out.writeString(tag.tagName);
+            }
+
+            long[] personPositions = new long[persons.size()];
+            out.writeInt(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                personPositions[i] = out.position();
+                out.writeString(person.getName().fullName);
+                out.writeString(person.getPhone().value);
+                out.writeString(person.getEmail().value);
+                out.writeString(person.getAddress().value);
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    out.writeInt(tagIndexes.get(tag));
+                }
+            }
+
+            long personIndexPosition = out.position();
+            for (long personPosition : personPositions) {
+                out.writeLong(personPosition);
+            }
+            out.writeLong(personIndexPosition);
+            out.flush();
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Does nothing, as address books are written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * The fields of a person as read from the file, before they are checked.
+     */
+    private static class PersonRecord {
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final Tag[] tags;
+
+        PersonRecord(String name, String phone, String email, String address, Tag[] tags) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.tags = tags;
+        }
+
+        Person toModelType() throws IllegalValueException {
+            return JsonAdaptedPerson.toModelType(name, phone, email, address, TagSet.of(tags));
+        }
+    }
+
+    /**
+     * Reads values from a file channel through a buffer of constant size.
+     */
+    private static class ChannelReader {
+        private final FileChannel channel;
+        private final long size;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        ChannelReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            buffer.flip();
+        }
+
+        /**
+         * Reads from the channel until at least {@code count} bytes, which must fit in the buffer, are buffered.
+         */
+        private void require(int count) throws IOException {
+            if (buffer.remaining() >= count) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < count) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException(MESSAGE_TRUNCATED);
+                }
+            }
+            buffer.flip();
+        }
+
+        short readShort() throws IOException {
+            require(Short.BYTES);
+            return buffer.getShort();
+        }
+
+        int readInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        /**
+         * Reads a count of items that each take at least {@code minBytesEach} bytes in the file.
+         */
+        int readCount(int minBytesEach) throws IOException {
+            int count = readInt();
+            if (count < 0 || (long) count * minBytesEach > size) {
+                throw new IOException(String.format(MESSAGE_INVALID_COUNT, count));
+            }
+            return count;
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                require(1);
+                int chunkLength = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunkLength);
+                offset += chunkLength;
+            }
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            return new String(readBytes(readCount(1)), UTF_8);
+        }
+    }
+
+    /**
+     * Writes values to a file channel through a buffer of constant size.
+     */
+    private static class ChannelWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void reserve(int count) throws IOException {
+            if (buffer.remaining() < count) {
+                flush();
+            }
+        }
+
+        void writeShort(short value) throws IOException {
+            reserve(Short.BYTES);
+            buffer.putShort(value);
+        }
+
+        void writeInt(int value) throws IOException {
+            reserve(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            reserve(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /**
+         * Returns the position in the file that the next value will be written at.
+         */
+        long position() throws IOException {
+            return channel.position() + buffer.position();
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            reserve(bytes.length);
+            if (bytes.length > buffer.remaining()) {
+                writeFully(ByteBuffer.wrap(bytes));
+                return;
+            }
+            buffer.put(bytes);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        /**
+         * Writes all buffered bytes to the channel.
+         */
+        void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot file, together with a journal file of
+ * the changes made since the snapshot was written.
+ * Saving appends a record of each person added, replaced or removed to the journal instead of rewriting the whole
+ * file. The journal is compacted into a new snapshot in the background once it holds {@code compactionThreshold}
+ * records, and every {@code compactionInterval} if it holds any. Reading replays the journal onto the snapshot.
+ * The snapshot file can also be read by {@link JsonAddressBookStorage}, but without the changes in the journal.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage, Closeable {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+    /** How often records appended to the journal are forced to the storage device under {@link FsyncPolicy#BATCHED}. */
+    public static final Duration BATCHED_FSYNC_INTERVAL = Duration.ofSeconds(1);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final FsyncPolicy fsyncPolicy;
+    private final int compactionThreshold;
+    private final ScheduledExecutorService executor;
+
+    // The fields below are guarded by the lock of this storage.
+
+    /** The persons last read from or saved to {@code filePath}, or null if they are not known to be on disk. */
+    private List<Person> savedPersons;
+    /** The sequence number of the last journal record, or of the snapshot if it is later. */
+    private long sequence;
+    private int journalRecordCount;
+    private FileChannel journalChannel;
+    private boolean hasUnforcedWrites;
+    private boolean isCompactionScheduled;
+
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this(filePath, fsyncPolicy, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with its snapshot at {@code filePath} and its journal next to it,
+     * that forces journal records to the storage device according to {@code fsyncPolicy}.
+     */
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, int compactionThreshold,
+            Duration compactionInterval) {
+        requireAllNonNull(filePath, fsyncPolicy, compactionInterval);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        checkArgument(!compactionInterval.isNegative() && !compactionInterval.isZero(),
+                "Compaction interval must be positive");
+
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.fsyncPolicy = fsyncPolicy;
+        this.compactionThreshold = compactionThreshold;
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long compactionMillis = compactionInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::compact, compactionMillis, compactionMillis, TimeUnit.MILLISECONDS);
+        if (fsyncPolicy == FsyncPolicy.BATCHED) {
+            long fsyncMillis = BATCHED_FSYNC_INTERVAL.toMillis();
+            executor.scheduleWithFixedDelay(this::forceJournal, fsyncMillis, fsyncMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.JSON;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A journal record that was not completely written, as the last one may be after a crash, is ignored.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a complete journal record is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonJournalSnapshot> snapshot = JsonUtil.readJsonFile(filePath, JsonJournalSnapshot.class);
+        Path journalPath = getJournalPath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Person> persons = snapshot.isPresent() ? snapshot.get().toModelPersons() : new ArrayList<>();
+            JournalReplay replay = new JournalReplay(snapshot.map(JsonJournalSnapshot::getSequence).orElse(0L));
+            if (Files.exists(journalPath)) {
+                replay.replay(Files.readAllBytes(journalPath), persons);
+            }
+
+            AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+
+            if (filePath.equals(this.filePath)) {
+                if (replay.hasIncompleteRecord()) {
+                    logger.warning("Ignoring incomplete record at the end of " + journalPath);
+                    openJournal().truncate(replay.getCompleteLength());
+                }
+                savedPersons = persons;
+                sequence = replay.getLastSequence();
+                journalRecordCount = replay.getRecordCount();
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than that of this storage writes a snapshot there and deletes its journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            Files.deleteIfExists(getJournalPath(filePath));
+            writeSnapshot(filePath, persons, 0);
+            return;
+        }
+
+        try {
+            List<JsonAdaptedJournalRecord> records = savedPersons == null ? null : diff(savedPersons, persons);
+            if (records == null) {
+                writeSnapshot(persons);
+            } else if (!records.isEmpty()) {
+                appendToJournal(records);
+            }
+            savedPersons = persons;
+        } catch (IOException ioe) {
+            // The journal may now end with a partly written record, so the next save writes a snapshot instead
+            savedPersons = null;
+            throw ioe;
+        }
+
+        if (journalRecordCount >= compactionThreshold && !isCompactionScheduled && !executor.isShutdown()) {
+            isCompactionScheduled = true;
+            executor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Forces all records appended to the journal to the storage device, unless the fsync policy is
+     * {@link FsyncPolicy#OS_MANAGED}.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (hasUnforcedWrites && fsyncPolicy != FsyncPolicy.OS_MANAGED) {
+            journalChannel.force(false);
+            hasUnforcedWrites = false;
+        }
+    }
+
+    /**
+     * Stops compacting the journal in the background after any compaction already due, and then compacts and closes
+     * it, so that the snapshot file alone holds the saved address book.
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (savedPersons != null && journalRecordCount > 0) {
+                writeSnapshot(savedPersons);
+            }
+            flush();
+            closeJournal();
+        }
+    }
+
+    /**
+     * Writes the saved persons to a new snapshot and empties the journal, if the journal holds any records.
+     */
+    synchronized void compact() {
+        isCompactionScheduled = false;
+        if (savedPersons == null || journalRecordCount == 0) {
+            return;
+        }
+
+        try {
+            writeSnapshot(savedPersons);
+            logger.fine("Compacted journal " + journalPath + " into " + filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + ioe);
+        }
+    }
+
+    private void forceJournal() {
+        try {
+            flush();
+        } catch (IOException ioe) {
+            logger.warning("Failed to force journal " + journalPath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns the records, numbered from {@code sequence + 1}, that change {@code oldPersons} into
+     * {@code newPersons}, or null if a snapshot of {@code newPersons} would be smaller.
+     * As persons are immutable, unchanged persons are found by identity. Only the persons between the longest common
+     * prefix and suffix of the lists are recorded, which is exactly the change made by adding, editing or deleting
+     * a person.
+     */
+    private List<JsonAdaptedJournalRecord> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int commonBound = Math.min(oldPersons.size(), newPersons.size());
+        int prefix = 0;
+        while (prefix < commonBound && oldPersons.get(prefix) == newPersons.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonBound - prefix && oldPersons.get(oldPersons.size() - 1 - suffix)
+                == newPersons.get(newPersons.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int oldEnd = oldPersons.size() - suffix;
+        int newEnd = newPersons.size() - suffix;
+        boolean isReplacement = oldEnd == newEnd;
+        int changeCount = isReplacement ? newEnd - prefix : (oldEnd - prefix) + (newEnd - prefix);
+        if (changeCount > Math.min(newPersons.size(), compactionThreshold)) {
+            return null;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(changeCount);
+        long recordSequence = sequence;
+        if (isReplacement) {
+            for (int i = prefix; i < newEnd; i++) {
+                if (oldPersons.get(i) != newPersons.get(i)) {
+                    records.add(JsonAdaptedJournalRecord.set(++recordSequence, i, newPersons.get(i)));
+                }
+            }
+            return records;
+        }
+
+        for (int i = prefix; i < oldEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(++recordSequence, prefix));
+        }
+        for (int i = prefix; i < newEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.add(++recordSequence, i, newPersons.get(i)));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        // Numbers the next records and snapshot after these records even if they are only partly written, so that
+        // records left in the journal by a failed write are never replayed onto a later snapshot
+        sequence = records.get(records.size() - 1).getSequence();
+        FileChannel channel = openJournal();
+        writeFully(channel, lines.toString().getBytes(UTF_8));
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            channel.force(false);
+        } else {
+            hasUnforcedWrites = true;
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes {@code persons} to a new snapshot at the location of this storage, and then empties the journal.
+     * The journal may only be emptied after the new snapshot is in place, as until then the records are needed to
+     * read back the saved persons. Records left behind by a crash in between, including any partly written by a
+     * failed save, are skipped when reading, since the snapshot has the sequence number of the last of them.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        if (savedPersons == null) {
+            // The journal channel may have failed, so the journal is reopened to be emptied
+            closeJournal();
+        }
+
+        writeSnapshot(filePath, persons, sequence);
+        FileChannel channel = openJournal();
+        channel.truncate(0);
+        if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+            channel.force(false);
+        }
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Writes {@code persons} with the given {@code sequence} number to a temporary file, forces it to the storage
+     * device and then moves it to {@code filePath}, so that a crash leaves either the old or the new snapshot.
+     */
+    private static void writeSnapshot(Path filePath, List<Person> persons, long sequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        String content = JsonUtil.toJsonString(JsonJournalSnapshot.fromModelPersons(sequence, persons));
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, content.getBytes(UTF_8));
+            channel.force(true);
+        }
+
+        FileUtil.moveReplacing(tempPath, filePath);
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return journalChannel;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+            hasUnforcedWrites = false;
+        }
+    }
+
+    /**
+     * Applies the records of a journal that come after its snapshot to the persons of the snapshot.
+     */
+    private static class JournalReplay {
+        private long lastSequence;
+        private int recordCount;
+        private int completeLength;
+        private boolean hasIncompleteRecord;
+
+        JournalReplay(long snapshotSequence) {
+            lastSequence = snapshotSequence;
+        }
+
+        /**
+         * Applies the complete records in {@code journal} that are numbered after the last record applied so far to
+         * {@code persons}. Each record is on its own line, so a record without a line terminator is incomplete.
+         */
+        void replay(byte[] journal, List<Person> persons) throws IOException, IllegalValueException {
+            int lineStart = 0;
+            for (int i = 0; i < journal.length; i++) {
+                if (journal[i] != '\n') {
+                    continue;
+                }
+                String line = new String(journal, lineStart, i - lineStart, UTF_8);
+                lineStart = i + 1;
+
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                recordCount++;
+                if (record.getSequence() > lastSequence) {
+                    record.applyTo(persons);
+                    lastSequence = record.getSequence();
+                }
+            }
+            completeLength = lineStart;
+            hasIncompleteRecord = lineStart < journal.length;
+        }
+
+        long getLastSequence() {
+            return lastSequence;
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        int getCompleteLength() {
+            return completeLength;
+        }
+
+        boolean hasIncompleteRecord() {
+            return hasIncompleteRecord;
+        }
+    }
+
+}
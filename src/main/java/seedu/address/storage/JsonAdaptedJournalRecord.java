@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * A change to the list of persons of an AddressBook, as appended to a journal by
+ * {@link JournaledAddressBookStorage}, that is serializable to JSON format.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_MISSING_OPERATION = "Journal record %1$d is missing its operation!";
+    public static final String MESSAGE_MISSING_PERSON = "Journal record %1$d is missing its person!";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record %1$d has an invalid index %2$d!";
+
+    /**
+     * The kinds of change to the list of persons.
+     */
+    enum Operation {
+        /** Inserts the person at the index. */
+        ADD,
+        /** Replaces the person at the index. */
+        SET,
+        /** Removes the person at the index. */
+        REMOVE
+    }
+
+    private final long sequence;
+    private final Operation operation;
+    private final int index;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+            @JsonProperty("operation") Operation operation, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record numbered {@code sequence} that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(long sequence, int index, Person person) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.ADD, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record numbered {@code sequence} that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(long sequence, int index, Person person) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.SET, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record numbered {@code sequence} that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(long sequence, int index) {
+        return new JsonAdaptedJournalRecord(sequence, Operation.REMOVE, index, null);
+    }
+
+    /**
+     * Returns the sequence number of this record, which is larger than those of all records before it in the journal.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is incomplete, its index is out of bounds or its person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_OPERATION, sequence));
+        }
+        int indexBound = operation == Operation.ADD ? persons.size() + 1 : persons.size();
+        if (index < 0 || index >= indexBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, sequence, index));
+        }
+
+        if (operation == Operation.REMOVE) {
+            persons.remove(index);
+            return;
+        }
+
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, sequence));
+        }
+        Person modelPerson = person.toModelType();
+        if (operation == Operation.ADD) {
+            persons.add(index, modelPerson);
+        } else {
+            persons.set(index, modelPerson);
+        }
+    }
+
+}
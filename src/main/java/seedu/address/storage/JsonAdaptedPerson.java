@@ -69,7 +69,16 @@ class JsonAdaptedPerson {
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
         }
+        return toModelType(name, phone, email, address, new HashSet<>(personTags));
+    }
 
+    /**
+     * Converts the given person details, as read from any storage format, into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the person details.
+     */
+    static Person toModelType(String name, String phone, String email, String address, Set<Tag> modelTags)
+            throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -102,7 +111,6 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an AddressBook from a file in the format of {@link JsonSerializableAddressBook} as a stream.
+ * The file is parsed in chunks, and the persons parsed are converted to the model's {@code Person} in parallel with the
+ * parsing by a {@link ParallelPersonConverter}, so that neither the whole file nor all the Jackson-friendly persons
+ * are held in memory at once.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected a JSON object of persons";
+    public static final String MESSAGE_NOT_A_PERSON = "Expected a JSON object for each person";
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in the file at {@code filePath}.
+     * Fields other than the list of persons are ignored, as by {@link JsonUtil#readJsonFile(Path, Class)}.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            ParallelPersonConverter<JsonAdaptedPerson> converter =
+                    new ParallelPersonConverter<>(JsonAdaptedPerson::toModelType);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, converter);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            return JsonSerializableAddressBook.toAddressBook(converter.finish());
+        }
+    }
+
+    /**
+     * Adds each person in the JSON array that {@code parser} is at the start of to {@code converter}.
+     */
+    private static void readPersons(JsonParser parser, ParallelPersonConverter<JsonAdaptedPerson> converter)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            converter.add(parser.readValueAs(JsonAdaptedPerson.class));
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_A_PERSON);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook to a file in the format of {@link JsonSerializableAddressBook} as a stream.
+ * Each person is written field by field straight from the model as the file is written, through a buffer of
+ * constant size, without converting the persons to Jackson-friendly persons or the file to a string first.
+ */
+class JsonAddressBookWriter {
+
+    // The field names used by JsonSerializableAddressBook and JsonAdaptedPerson
+    private static final String PERSONS_FIELD = "persons";
+    private static final String NAME_FIELD = "name";
+    private static final String PHONE_FIELD = "phone";
+    private static final String EMAIL_FIELD = "email";
+    private static final String ADDRESS_FIELD = "address";
+    private static final String TAGS_FIELD = "tagged";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     * The file is indented as by {@link JsonUtil#toJsonString(Object)} unless {@code isCompact} is true.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        try (OutputStream out = Files.newOutputStream(filePath);
+                JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME_FIELD, person.getName().fullName);
+        generator.writeStringField(PHONE_FIELD, person.getPhone().value);
+        generator.writeStringField(EMAIL_FIELD, person.getEmail().value);
+        generator.writeStringField(ADDRESS_FIELD, person.getAddress().value);
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * An Immutable snapshot of the persons of an AddressBook, as written by {@link JournaledAddressBookStorage}, that is
+ * serializable to JSON format. Apart from the sequence number of the last journal record it includes, it has the same
+ * format as {@link JsonSerializableAddressBook}.
+ */
+@JsonRootName(value = "addressbook")
+class JsonJournalSnapshot {
+
+    private final long sequence;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalSnapshot} with the given sequence number and persons.
+     */
+    @JsonCreator
+    public JsonJournalSnapshot(@JsonProperty("sequence") long sequence,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Converts the given persons into this class for Jackson use.
+     *
+     * @param sequence the sequence number of the last journal record that changed {@code source}.
+     * @param source future changes to this will not affect the created {@code JsonJournalSnapshot}.
+     */
+    public static JsonJournalSnapshot fromModelPersons(long sequence, List<Person> source) {
+        return new JsonJournalSnapshot(sequence,
+                source.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Converts the persons of this snapshot into a modifiable list of the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the persons.
+     */
+    public List<Person> toModelPersons() throws IllegalValueException {
+        ParallelPersonConverter<JsonAdaptedPerson> converter =
+                new ParallelPersonConverter<>(JsonAdaptedPerson::toModelType);
+        persons.forEach(converter::add);
+        return converter.finish();
+    }
+
+}
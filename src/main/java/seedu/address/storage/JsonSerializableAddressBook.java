@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +21,8 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_PAIR = MESSAGE_DUPLICATE_PERSON
+            + " The first duplicate pair found is %1$s and %2$s.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,17 +45,29 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are converted in parallel first and then loaded into the address book in a single bulk operation.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        ParallelPersonConverter<JsonAdaptedPerson> converter =
+                new ParallelPersonConverter<>(JsonAdaptedPerson::toModelType);
+        persons.forEach(converter::add);
+        return toAddressBook(converter.finish());
+    }
+
+    /**
+     * Loads {@code persons} into a new {@code AddressBook} in a single bulk operation.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON_PAIR,
+                    dpe.getFirst(), dpe.getSecond()), dpe);
         }
         return addressBook;
     }
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A read-only address book backed by a file in the format of {@link BinaryAddressBookStorage} that is mapped into
+ * memory, for books that are too large to read in full and are mostly only looked at.
+ * Opening the file reads only its header and tags. A {@code Person} is only decoded from the file when an element of
+ * {@link #getPersonList()} is read, at the position given by the person index at the end of the file. Views are not
+ * cached, so reading the same element twice returns equal but distinct objects.
+ * <p>
+ * As the persons are only checked when they are decoded, reading an element throws an
+ * {@code IllegalArgumentException} if the file holds an invalid person there. Duplicate persons are not detected.
+ * The file must not be changed while the address book is in use, so the app does not use this for its own data
+ * file. See {@link BinaryAddressBookStorage#readMappedAddressBook(java.nio.file.Path)}.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook {
+
+    /** The size of the regions that the file is mapped in, as a single mapping cannot exceed 2 GB. */
+    static final long DEFAULT_REGION_SIZE = 1L << 30;
+
+    private final long regionSize;
+    private final MappedByteBuffer[] regions;
+    private final Tag[] tags;
+    private final long personsPosition;
+    private final long personIndexPosition;
+    private final int personCount;
+    private final ObservableList<Person> personViews;
+
+    MappedAddressBook(FileChannel channel) throws IOException, IllegalValueException {
+        this(channel, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Maps the file open in {@code channel} into memory in regions of {@code regionSize} bytes, and reads its header.
+     */
+    MappedAddressBook(FileChannel channel, long regionSize) throws IOException, IllegalValueException {
+        this.regionSize = regionSize;
+        long size = channel.size();
+        regions = new MappedByteBuffer[(int) ((size + regionSize - 1) / regionSize)];
+        for (int i = 0; i < regions.length; i++) {
+            long regionPosition = i * regionSize;
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionPosition,
+                    Math.min(regionSize, size - regionPosition));
+        }
+
+        Cursor header = new Cursor(0, size);
+        if (!Arrays.equals(header.readBytes(BinaryAddressBookStorage.MAGIC.length), BinaryAddressBookStorage.MAGIC)) {
+            throw new IOException(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_FORMAT);
+        }
+        short version = header.readShort();
+        BinaryAddressBookStorage.checkVersion(version);
+        if (version == BinaryAddressBookStorage.OLDEST_FORMAT_VERSION) {
+            throw new IOException(String.format(BinaryAddressBookStorage.MESSAGE_NO_PERSON_INDEX, version));
+        }
+
+        tags = new Tag[header.readCount(BinaryAddressBookStorage.MIN_TAG_BYTES)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = BinaryAddressBookStorage.toModelTag(header.readString());
+        }
+        personCount = header.readCount(Long.BYTES);
+        personsPosition = header.position;
+
+        personIndexPosition = new Cursor(size - Long.BYTES, size).readLong();
+        if (personIndexPosition < personsPosition
+                || personIndexPosition + (personCount + 1L) * Long.BYTES != size) {
+            throw new IOException(BinaryAddressBookStorage.MESSAGE_INVALID_PERSON_INDEX);
+        }
+
+        personViews = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonViews()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personViews;
+    }
+
+    /**
+     * Returns a new {@code Person} decoded from the file for the person at {@code index}.
+     *
+     * @throws IllegalArgumentException if the file does not hold a valid person there.
+     */
+    private Person decode(int index) {
+        try {
+            long position = new Cursor(personIndexPosition + (long) index * Long.BYTES, personIndexPosition
+                    + (long) personCount * Long.BYTES).readLong();
+            if (position < personsPosition || position >= personIndexPosition) {
+                throw new IOException(BinaryAddressBookStorage.MESSAGE_INVALID_PERSON_INDEX);
+            }
+
+            Cursor in = new Cursor(position, personIndexPosition);
+            String name = in.readString();
+            String phone = in.readString();
+            String email = in.readString();
+            String address = in.readString();
+            Tag[] personTags = new Tag[in.readCount(Integer.BYTES)];
+            for (int i = 0; i < personTags.length; i++) {
+                int tagIndex = in.readInt();
+                if (tagIndex < 0 || tagIndex >= tags.length) {
+                    throw new IOException(String.format(BinaryAddressBookStorage.MESSAGE_INVALID_TAG_INDEX, tagIndex));
+                }
+                personTags[i] = tags[tagIndex];
+            }
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    TagSet.of(personTags));
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Invalid person at index " + index + ": " + ioe.getMessage(), ioe);
+        }
+    }
+
+    /**
+     * Copies {@code length} bytes of the file starting at {@code position}, which may span more than one region.
+     */
+    private byte[] get(long position, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long current = position + copied;
+            ByteBuffer region = regions[(int) (current / regionSize)].duplicate();
+            region.position((int) (current % regionSize));
+            int chunkLength = Math.min(region.remaining(), length - copied);
+            region.get(bytes, copied, chunkLength);
+            copied += chunkLength;
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return personViews.size() + " persons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MappedAddressBook // instanceof handles nulls
+                && personViews.equals(((MappedAddressBook) other).personViews));
+    }
+
+    @Override
+    public int hashCode() {
+        return personViews.hashCode();
+    }
+
+    /**
+     * A read-only list that decodes each person when it is read.
+     */
+    private class PersonViews extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return decode(index);
+        }
+
+        @Override
+        public int size() {
+            return personCount;
+        }
+    }
+
+    /**
+     * Reads values from the mapped file in order, up to a limit.
+     */
+    private class Cursor {
+        private long position;
+        private final long limit;
+
+        Cursor(long position, long limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        byte[] readBytes(int length) throws EOFException {
+            if (position < 0 || length > limit - position) {
+                throw new EOFException(BinaryAddressBookStorage.MESSAGE_TRUNCATED);
+            }
+            byte[] bytes = get(position, length);
+            position += length;
+            return bytes;
+        }
+
+        short readShort() throws EOFException {
+            return ByteBuffer.wrap(readBytes(Short.BYTES)).getShort();
+        }
+
+        int readInt() throws EOFException {
+            return ByteBuffer.wrap(readBytes(Integer.BYTES)).getInt();
+        }
+
+        long readLong() throws EOFException {
+            return ByteBuffer.wrap(readBytes(Long.BYTES)).getLong();
+        }
+
+        /**
+         * Reads a count of items that each take at least {@code minBytesEach} bytes before the limit.
+         */
+        int readCount(int minBytesEach) throws IOException {
+            int count = readInt();
+            if (count < 0 || (long) count * minBytesEach > limit - position) {
+                throw new IOException(String.format(BinaryAddressBookStorage.MESSAGE_INVALID_COUNT, count));
+            }
+            return count;
+        }
+
+        String readString() throws IOException {
+            return new String(readBytes(readCount(1)), UTF_8);
+        }
+    }
+
+}
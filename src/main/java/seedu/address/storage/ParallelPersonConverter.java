@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts the records of persons read from a data file into the model's {@code Person} objects on a ForkJoin pool,
+ * keeping the order in which the records were read.
+ * The records are grouped into chunks as they are added, and each full chunk is converted on the pool while later
+ * records are still being read. At most a fixed number of chunks are waiting to be converted or collected at a time:
+ * once there are more, adding a record waits for the oldest of them to be converted, so that reading a file faster
+ * than it can be converted does not hold all its records in memory. If any records are invalid, the error of the
+ * first of them in the file is thrown, naming its position in the file.
+ * <p>
+ * The converter usually creates tags through {@code Tag#of(String)}, which takes the lock of the shared tag interner
+ * for each tag. As a person has only a few tags and the lock is held for a single map lookup, the chunks converted at
+ * the same time should spend little of their time waiting for it, next to validating the other fields. Should it
+ * show up when profiling, a converter could look up each distinct tag name of a chunk only once.
+ *
+ * @param <T> the type of the records.
+ */
+class ParallelPersonConverter<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    public static final String MESSAGE_INVALID_PERSON = "Person %1$d in the file is invalid: %2$s";
+
+    private final RecordConverter<T> converter;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final Deque<ForkJoinTask<ConvertedChunk>> pendingChunks = new ArrayDeque<>();
+    private final List<Person> persons = new ArrayList<>();
+    private IllegalValueException failure;
+    private List<T> chunk;
+    private int recordCount;
+
+    ParallelPersonConverter(RecordConverter<T> converter) {
+        this(converter, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts chunks of {@code chunkSize} records on {@code pool},
+     * with up to twice as many chunks pending as the pool has threads.
+     */
+    ParallelPersonConverter(RecordConverter<T> converter, ForkJoinPool pool, int chunkSize) {
+        this(converter, pool, chunkSize, 2 * pool.getParallelism());
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts chunks of {@code chunkSize} records on {@code pool},
+     * with at most {@code maxPendingChunks} chunks pending.
+     */
+    ParallelPersonConverter(RecordConverter<T> converter, ForkJoinPool pool, int chunkSize, int maxPendingChunks) {
+        requireNonNull(converter);
+        requireNonNull(pool);
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        checkArgument(maxPendingChunks > 0, "Maximum number of pending chunks must be positive");
+        this.converter = converter;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Adds {@code record} after the records added so far.
+     * If this fills a chunk while too many chunks are pending, waits for the oldest of them to be converted.
+     */
+    void add(T record) {
+        recordCount++;
+        if (failure != null) {
+            // The records after an invalid one will not be needed
+            return;
+        }
+        if (chunk == null) {
+            chunk = new ArrayList<>(chunkSize);
+        }
+        chunk.add(record);
+        if (chunk.size() == chunkSize) {
+            submitChunk();
+            while (pendingChunks.size() > maxPendingChunks && failure == null) {
+                collectOldestChunk();
+            }
+        }
+    }
+
+    /**
+     * Waits for all the records added to be converted, and returns the persons in the order of their records.
+     *
+     * @throws IllegalValueException if a record is invalid, naming the first invalid record.
+     */
+    List<Person> finish() throws IllegalValueException {
+        if (chunk != null && failure == null) {
+            submitChunk();
+        }
+        while (!pendingChunks.isEmpty() && failure == null) {
+            collectOldestChunk();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return persons;
+    }
+
+    private void submitChunk() {
+        List<T> records = chunk;
+        int firstIndex = recordCount - records.size();
+        pendingChunks.add(pool.submit(() -> convertChunk(records, firstIndex)));
+        chunk = null;
+    }
+
+    /**
+     * Waits for the oldest pending chunk to be converted, and adds its persons after those collected so far.
+     * If the chunk has an invalid record, records its error and cancels the other pending chunks instead.
+     */
+    private void collectOldestChunk() {
+        ForkJoinTask<ConvertedChunk> task = pendingChunks.remove();
+        ConvertedChunk convertedChunk = null;
+        boolean isInterrupted = false;
+        try {
+            while (convertedChunk == null) {
+                try {
+                    convertedChunk = task.get();
+                } catch (InterruptedException ie) {
+                    // The records must still be converted, so the interrupt is only passed on afterwards
+                    isInterrupted = true;
+                }
+            }
+        } catch (ExecutionException ee) {
+            cancelAll();
+            throw rethrow(ee.getCause());
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (convertedChunk.failure != null) {
+            failure = convertedChunk.failure;
+            chunk = null;
+            cancelAll();
+            return;
+        }
+        persons.addAll(convertedChunk.persons);
+    }
+
+    /**
+     * Converts {@code records}, the first of which is at {@code firstIndex} among all the records, in order.
+     * Conversion stops at the first invalid record, as the records after it will not be needed.
+     */
+    private ConvertedChunk convertChunk(List<T> records, int firstIndex) {
+        List<Person> persons = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                persons.add(converter.convert(records.get(i)));
+            } catch (IllegalValueException ive) {
+                return new ConvertedChunk(null, new IllegalValueException(
+                        String.format(MESSAGE_INVALID_PERSON, firstIndex + i + 1, ive.getMessage()), ive));
+            }
+        }
+        return new ConvertedChunk(persons, null);
+    }
+
+    private void cancelAll() {
+        pendingChunks.forEach(task -> task.cancel(false));
+        pendingChunks.clear();
+    }
+
+    /**
+     * Throws {@code cause}, the unchecked exception that a converter threw.
+     */
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The persons converted from a chunk of records, or the failure to convert one of them.
+     * As tasks on a ForkJoin pool cannot throw checked exceptions, invalid records are reported through this instead.
+     */
+    private static class ConvertedChunk {
+        private final List<Person> persons;
+        private final IllegalValueException failure;
+
+        ConvertedChunk(List<Person> persons, IllegalValueException failure) {
+            this.persons = persons;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Converts a record into the model's {@code Person}.
+     *
+     * @param <T> the type of the records.
+     */
+    @FunctionalInterface
+    interface RecordConverter<T> {
+        /**
+         * @throws IllegalValueException if the record violates any data constraints.
+         */
+        Person convert(T record) throws IllegalValueException;
+    }
+
+}
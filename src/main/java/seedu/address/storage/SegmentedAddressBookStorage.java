@@ -0,0 +1,444 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as segment files of up to {@code segmentSize} persons
+ * each, listed in order by a manifest file.
+ * <p>
+ * Saving rewrites only the segments holding persons that were added, replaced or removed since the last save, as
+ * found by comparing the persons by identity, and then replaces the manifest. New segments are written to new files,
+ * so the manifest on disk always lists complete segments, and a crash before the manifest is replaced leaves the
+ * previous address book. Segment files no longer listed are deleted after the manifest is replaced.
+ * <p>
+ * The manifest is at the location of this storage. It starts with the bytes {@link #MAGIC} and the format version,
+ * followed by the number of segments and the id and number of persons of each segment, as big-endian numbers.
+ * The segment with id {@code n} is the file {@code n.bin} in the directory {@link #getSegmentDirectory(Path)},
+ * in the format of {@link BinaryAddressBookStorage}.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    /** The bytes that every manifest starts with, which are "AB3S" in ASCII. */
+    public static final byte[] MAGIC = {'A', 'B', '3', 'S'};
+    public static final short FORMAT_VERSION = 1;
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+
+    public static final String MESSAGE_NOT_MANIFEST = "Not a segmented address book manifest";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported manifest version %1$d";
+    public static final String MESSAGE_INVALID_MANIFEST = "Invalid manifest";
+    public static final String MESSAGE_SEGMENT_SIZE_MISMATCH = "Segment %1$d holds %2$d persons instead of %3$d";
+
+    private static final String SEGMENT_FILE_SUFFIX = ".bin";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int SEGMENT_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int segmentSize;
+
+    // The fields below are guarded by the lock of this storage.
+
+    /** The segments last read from or saved to {@code filePath}, or null if they are not known to be on disk. */
+    private List<Segment> savedSegments;
+    private long nextSegmentId;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} with its manifest at {@code filePath}, that puts up to
+     * {@code segmentSize} persons in each segment.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        requireNonNull(filePath);
+        checkArgument(segmentSize > 0, "Segment size must be positive");
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the directory that holds the segments of the manifest at {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        return BinaryAddressBookStorage.startsWith(filePath, MAGIC);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.SEGMENTED;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading from the location of this storage also deletes the segment files not listed in the manifest, which a
+     * crash while saving may have left behind.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Manifest file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            List<Segment> segments = readManifest(filePath);
+            List<Person> persons = new ArrayList<>();
+            for (Segment segment : segments) {
+                List<Person> segmentPersons = BinaryAddressBookStorage.readPersons(
+                        getSegmentPath(filePath, segment.id));
+                if (segmentPersons.size() != segment.size) {
+                    throw new IOException(String.format(MESSAGE_SEGMENT_SIZE_MISMATCH, segment.id,
+                            segmentPersons.size(), segment.size));
+                }
+                segment.persons = segmentPersons;
+                persons.addAll(segmentPersons);
+            }
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+
+            if (filePath.equals(this.filePath)) {
+                savedSegments = segments;
+                nextSegmentId = getNextSegmentId(segments);
+                deleteUnlistedSegments(filePath, segments);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from segmented address book " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than that of this storage writes all the segments there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            List<Segment> segments = new ArrayList<>();
+            long firstSegmentId = getNextUnusedSegmentId(filePath);
+            addSegments(segments, persons, firstSegmentId);
+            writeSegments(filePath, segments, firstSegmentId);
+            return;
+        }
+
+        try {
+            // Segment files that are not known to be unused may be listed by the manifest on disk
+            long firstNewSegmentId = savedSegments == null
+                    ? Math.max(nextSegmentId, getNextUnusedSegmentId(filePath))
+                    : nextSegmentId;
+            List<Segment> segments = resegment(persons, firstNewSegmentId);
+            nextSegmentId = Math.max(firstNewSegmentId, getNextSegmentId(segments));
+            if (segments != savedSegments) {
+                writeSegments(filePath, segments, firstNewSegmentId);
+            }
+            savedSegments = segments;
+        } catch (IOException ioe) {
+            // The manifest on disk may list either the saved or the new segments
+            savedSegments = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Does nothing, as the manifest and segments are forced to the storage device before
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns the segments that hold {@code persons}, reusing the saved segments whose persons are unchanged, or the
+     * saved segments themselves if no person has changed. New segments are numbered from {@code firstNewSegmentId}.
+     * As persons are immutable, unchanged persons are found by identity. The persons between the longest common
+     * prefix and suffix of the saved and new persons, together with the rest of the saved segments they fall in,
+     * are put into new segments. So editing or deleting a person writes one segment, and adding a person at the end
+     * fills up the last segment before starting a new one.
+     */
+    private List<Segment> resegment(List<Person> persons, long firstNewSegmentId) {
+        List<Segment> segments = new ArrayList<>();
+        if (savedSegments == null) {
+            addSegments(segments, persons, firstNewSegmentId);
+            return segments;
+        }
+
+        List<Person> savedPersons = new ArrayList<>();
+        savedSegments.forEach(segment -> savedPersons.addAll(segment.persons));
+        int commonBound = Math.min(savedPersons.size(), persons.size());
+        int prefix = 0;
+        while (prefix < commonBound && savedPersons.get(prefix) == persons.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == savedPersons.size() && prefix == persons.size()) {
+            return savedSegments;
+        }
+        int suffix = 0;
+        while (suffix < commonBound - prefix && savedPersons.get(savedPersons.size() - 1 - suffix)
+                == persons.get(persons.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        // Keep the saved segments that end before the first change or start after the last one
+        int leadingSegments = 0;
+        int leadingPersons = 0;
+        while (leadingSegments < savedSegments.size()
+                && leadingPersons + savedSegments.get(leadingSegments).size <= prefix) {
+            leadingPersons += savedSegments.get(leadingSegments++).size;
+        }
+        if (leadingSegments > 0 && savedSegments.get(leadingSegments - 1).size < segmentSize) {
+            // Fill up a partly filled segment just before the change rather than starting another one
+            leadingPersons -= savedSegments.get(--leadingSegments).size;
+        }
+        int trailingSegments = 0;
+        int trailingPersons = 0;
+        while (trailingSegments < savedSegments.size() - leadingSegments
+                && trailingPersons + savedSegments.get(savedSegments.size() - 1 - trailingSegments).size <= suffix) {
+            trailingPersons += savedSegments.get(savedSegments.size() - 1 - trailingSegments++).size;
+        }
+
+        List<Person> changedPersons = persons.subList(leadingPersons, persons.size() - trailingPersons);
+        int minSegmentCount = (persons.size() + segmentSize - 1) / segmentSize;
+        int segmentCount = leadingSegments + trailingSegments
+                + (changedPersons.size() + segmentSize - 1) / segmentSize;
+        if (segmentCount > 2 * minSegmentCount + 1) {
+            // Deletions have left too many small segments, so all of them are rewritten as full segments
+            addSegments(segments, persons, firstNewSegmentId);
+            return segments;
+        }
+
+        segments.addAll(savedSegments.subList(0, leadingSegments));
+        addSegments(segments, changedPersons, firstNewSegmentId);
+        segments.addAll(savedSegments.subList(savedSegments.size() - trailingSegments, savedSegments.size()));
+        return segments;
+    }
+
+    /**
+     * Adds new segments holding {@code persons} in order to {@code segments}, numbered from {@code firstId}.
+     */
+    private void addSegments(List<Segment> segments, List<Person> persons, long firstId) {
+        long id = firstId;
+        for (int start = 0; start < persons.size(); start += segmentSize) {
+            int end = Math.min(persons.size(), start + segmentSize);
+            segments.add(new Segment(id++, new ArrayList<>(persons.subList(start, end))));
+        }
+    }
+
+    /**
+     * Writes the segments numbered from {@code firstNewSegmentId} and forces them to the storage device, then
+     * replaces the manifest at {@code filePath} with one that lists {@code segments}, and finally deletes the segment
+     * files that are no longer listed.
+     */
+    private static void writeSegments(Path filePath, List<Segment> segments, long firstNewSegmentId)
+            throws IOException {
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        Files.createDirectories(segmentDirectory);
+        for (Segment segment : segments) {
+            if (segment.id >= firstNewSegmentId) {
+                Path segmentPath = getSegmentPath(filePath, segment.id);
+                FileUtil.createIfMissing(segmentPath);
+                BinaryAddressBookStorage.writePersons(segment.persons, segmentPath, true);
+            }
+        }
+
+        ByteBuffer manifest = ByteBuffer.allocate(MAGIC.length + Short.BYTES + Integer.BYTES
+                + segments.size() * SEGMENT_ENTRY_BYTES);
+        manifest.put(MAGIC).putShort(FORMAT_VERSION).putInt(segments.size());
+        for (Segment segment : segments) {
+            manifest.putLong(segment.id).putInt(segment.size);
+        }
+        manifest.flip();
+
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (manifest.hasRemaining()) {
+                channel.write(manifest);
+            }
+            channel.force(true);
+        }
+        FileUtil.moveReplacing(tempPath, filePath);
+
+        deleteUnlistedSegments(filePath, segments);
+    }
+
+    private static List<Segment> readManifest(Path filePath) throws IOException {
+        ByteBuffer manifest = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            manifest.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_NOT_MANIFEST);
+            }
+            short version = manifest.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int segmentCount = manifest.getInt();
+            if (segmentCount < 0 || (long) segmentCount * SEGMENT_ENTRY_BYTES != manifest.remaining()) {
+                throw new IOException(MESSAGE_INVALID_MANIFEST);
+            }
+            List<Segment> segments = new ArrayList<>(segmentCount);
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < segmentCount; i++) {
+                Segment segment = new Segment(manifest.getLong(), manifest.getInt());
+                if (segment.id < 0 || segment.size < 0 || !ids.add(segment.id)) {
+                    throw new IOException(MESSAGE_INVALID_MANIFEST);
+                }
+                segments.add(segment);
+            }
+            return segments;
+        } catch (BufferUnderflowException bue) {
+            throw new EOFException(MESSAGE_INVALID_MANIFEST);
+        }
+    }
+
+    /**
+     * Returns an id greater than that of every segment in {@code segments}.
+     */
+    private static long getNextSegmentId(List<Segment> segments) {
+        return segments.stream().mapToLong(segment -> segment.id + 1).max().orElse(0);
+    }
+
+    private static Path getSegmentPath(Path filePath, long segmentId) {
+        return getSegmentDirectory(filePath).resolve(segmentId + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns an id greater than that of every segment file in the segment directory of {@code filePath}.
+     */
+    private static long getNextUnusedSegmentId(Path filePath) throws IOException {
+        long nextId = 0;
+        for (Path segmentPath : listSegmentFiles(filePath)) {
+            nextId = Math.max(nextId, getSegmentId(segmentPath) + 1);
+        }
+        return nextId;
+    }
+
+    private static void deleteUnlistedSegments(Path filePath, List<Segment> segments) throws IOException {
+        Set<Long> listedIds = new HashSet<>();
+        segments.forEach(segment -> listedIds.add(segment.id));
+        for (Path segmentPath : listSegmentFiles(filePath)) {
+            if (!listedIds.contains(getSegmentId(segmentPath))) {
+                logger.fine("Deleting unlisted segment " + segmentPath);
+                Files.delete(segmentPath);
+            }
+        }
+    }
+
+    /**
+     * Returns the files in the segment directory of {@code filePath} that are named like segments.
+     */
+    private static List<Path> listSegmentFiles(Path filePath) throws IOException {
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        List<Path> segmentPaths = new ArrayList<>();
+        if (!Files.isDirectory(segmentDirectory)) {
+            return segmentPaths;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(segmentDirectory, "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path segmentPath : stream) {
+                if (getSegmentId(segmentPath) >= 0) {
+                    segmentPaths.add(segmentPath);
+                }
+            }
+        }
+        return segmentPaths;
+    }
+
+    /**
+     * Returns the id of the segment at {@code segmentPath}, or -1 if the file is not named like a segment.
+     */
+    private static long getSegmentId(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        String id = fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length());
+        if (!id.matches("\\d{1,18}")) {
+            return -1;
+        }
+        return Long.parseLong(id);
+    }
+
+    /**
+     * A segment file, with the persons it holds once they have been read or written.
+     */
+    private static class Segment {
+        private final long id;
+        private final int size;
+        private List<Person> persons;
+
+        Segment(long id, int size) {
+            this.id = id;
+            this.size = size;
+        }
+
+        Segment(long id, List<Person> persons) {
+            this(id, persons.size());
+            this.persons = persons;
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -23,10 +24,40 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Path getAddressBookFilePath();
 
+    @Override
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Saves address books in {@code format} from now on, to the same file path.
+     * Does nothing if they are already saved in {@code format}.
+     * @throws IOException if there was any problem writing address books saved in the previous format.
+     */
+    void setAddressBookFormat(AddressBookFormat format) throws IOException;
+
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException;
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void flush() throws IOException;
+
+    /**
+     * Adds {@code listener} to be told of address books that could not be written after saving them returned, as
+     * when they are written in the background.
+     */
+    void addWriteFailureListener(WriteFailureListener listener);
+
+    /**
+     * A listener to failures to write an address book after saving it returned.
+     */
+    @FunctionalInterface
+    interface WriteFailureListener {
+        /**
+         * Called when an address book could not be written to {@code filePath} because of {@code failure}.
+         */
+        void writeFailed(Path filePath, IOException failure);
+    }
+
 }
@@ -1,10 +1,15 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -13,18 +18,33 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The format of an address book file is detected when it is read, so that files in any format can be read, and
+ * address books continue to be saved in the format of the file read from.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final Function<Path, AddressBookStorage> jsonStorageFactory;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, JsonAddressBookStorage::new);
+    }
+
+    /**
+     * Creates a {@code StorageManager} like {@link #StorageManager(AddressBookStorage, UserPrefsStorage)} that saves
+     * address books in json format with storages created by {@code jsonStorageFactory} for their file paths, as when
+     * an address book is converted to json or read from a json file after a file in another format.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            Function<Path, AddressBookStorage> jsonStorageFactory) {
         super();
+        requireNonNull(jsonStorageFactory);
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.jsonStorageFactory = jsonStorageFactory;
     }
 
     // ================ UserPrefs methods ==============================
@@ -52,6 +72,20 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookStorage.getAddressBookFormat();
+    }
+
+    @Override
+    public void setAddressBookFormat(AddressBookFormat format) throws IOException {
+        if (format == addressBookStorage.getAddressBookFormat()) {
+            return;
+        }
+        logger.info("Saving data in " + format + " format from now on");
+        setAddressBookStorage(createAddressBookStorage(format, getAddressBookFilePath()));
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -60,7 +94,17 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        AddressBookFormat format = detectAddressBookFormat(filePath);
+        if (format == addressBookStorage.getAddressBookFormat()) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+
+        logger.info("Data file " + filePath + " is in " + format + " format");
+        AddressBookStorage formatStorage = createAddressBookStorage(format, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            setAddressBookStorage(formatStorage);
+        }
+        return formatStorage.readAddressBook(filePath);
     }
 
     @Override
@@ -74,4 +118,56 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
+    /**
+     * Does nothing, as address books are written before saving them returns.
+     */
+    @Override
+    public void addWriteFailureListener(WriteFailureListener listener) {
+        requireNonNull(listener);
+    }
+
+    /**
+     * Replaces the storage that address books are saved with by {@code newStorage}, after flushing and, if it can be,
+     * closing the previous one.
+     */
+    private void setAddressBookStorage(AddressBookStorage newStorage) throws IOException {
+        addressBookStorage.flush();
+        if (addressBookStorage instanceof Closeable) {
+            ((Closeable) addressBookStorage).close();
+        }
+        addressBookStorage = newStorage;
+    }
+
+    /**
+     * Returns the format of the address book file at {@code filePath} from its first bytes.
+     * Files that are missing or not in another format are taken to be json.
+     */
+    private static AddressBookFormat detectAddressBookFormat(Path filePath) throws IOException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return AddressBookFormat.BINARY;
+        } else if (SegmentedAddressBookStorage.isManifestFile(filePath)) {
+            return AddressBookFormat.SEGMENTED;
+        } else {
+            return AddressBookFormat.JSON;
+        }
+    }
+
+    private AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(filePath);
+        case JSON:
+            return jsonStorageFactory.apply(filePath);
+        default:
+            throw new AssertionError("Unknown address book format " + format);
+        }
+    }
+
 }
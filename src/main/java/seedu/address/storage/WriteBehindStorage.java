@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that writes address books to another {@code Storage} on a background thread, so that saving an
+ * address book does not hold up the caller.
+ * Saving takes a snapshot of the address book to be written later. Only the latest snapshot for each file is
+ * written, so a burst of saves made while an earlier snapshot is being written results in a single write.
+ * A failure to write a snapshot is reported to the write failure listeners as soon as it happens, and is thrown by
+ * {@link #flush()} unless a later snapshot has been written since.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final List<WriteFailureListener> writeFailureListeners = new CopyOnWriteArrayList<>();
+
+    // The fields below are guarded by the lock of this storage.
+
+    /** The latest snapshot to be written to each file, in the order the files were first saved to. */
+    private final Map<Path, ReadOnlyAddressBook> pendingAddressBooks = new LinkedHashMap<>();
+    private boolean isWriting;
+    /** The failure to write the last snapshot written, or null if it was written. */
+    private IOException writeFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address books to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public synchronized AddressBookFormat getAddressBookFormat() {
+        return storage.getAddressBookFormat();
+    }
+
+    /**
+     * Changes the format after all pending snapshots have been written in the previous format.
+     */
+    @Override
+    public synchronized void setAddressBookFormat(AddressBookFormat format) throws IOException {
+        awaitWrites();
+        storage.setAddressBookFormat(format);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book at {@code filePath} after all pending snapshots have been written.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        awaitWrites();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} to be written to {@code filePath} on the background thread.
+     * An {@code AddressBookSnapshot} is written as it is, since it cannot change.
+     * A failure to write it is reported to the write failure listeners instead of being thrown.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        pendingAddressBooks.put(filePath, addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBookSnapshot(addressBook));
+        if (!isWriting) {
+            isWriting = true;
+            executor.execute(this::writePendingAddressBooks);
+        }
+    }
+
+    /**
+     * Adds {@code listener} to be told on the background thread of each snapshot that could not be written.
+     */
+    @Override
+    public void addWriteFailureListener(WriteFailureListener listener) {
+        requireNonNull(listener);
+        writeFailureListeners.add(listener);
+    }
+
+    /**
+     * Waits until all pending snapshots have been written, and then flushes the underlying storage.
+     *
+     * @throws IOException if the last snapshot written could not be written, and the failure has not been thrown by
+     *     an earlier flush.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            awaitWrites();
+            throwWriteFailure();
+        }
+        storage.flush();
+    }
+
+    /**
+     * Writes the pending snapshots until there are none left.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            Path filePath;
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                if (pendingAddressBooks.isEmpty()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingAddressBooks.entrySet().iterator();
+                Map.Entry<Path, ReadOnlyAddressBook> next = iterator.next();
+                filePath = next.getKey();
+                addressBook = next.getValue();
+                iterator.remove();
+            }
+
+            IOException failure = null;
+            try {
+                storage.saveAddressBook(addressBook, filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write address book to " + filePath + ": " + e);
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+
+            synchronized (this) {
+                writeFailure = failure;
+            }
+            if (failure != null) {
+                for (WriteFailureListener listener : writeFailureListeners) {
+                    listener.writeFailed(filePath, failure);
+                }
+            }
+        }
+    }
+
+    private synchronized void awaitWrites() throws InterruptedIOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for address book to be written");
+            }
+        }
+    }
+
+    private synchronized void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+}
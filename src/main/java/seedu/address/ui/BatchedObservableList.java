@@ -0,0 +1,108 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable copy of a source list that is brought up to date in batches, so that the UI showing it handles a
+ * single change for any number of changes to the source.
+ * <p>
+ * When the source changes, an update is handed to the batch executor, and further changes made before it runs are
+ * included in it. The update compares the copy with the source and fires one change replacing the range of elements
+ * between the first and the last ones that differ, or none if the source ended up unchanged. Elements are compared
+ * by reference, so that an element replaced by an equal one is still reported.
+ * <p>
+ * The source must only be changed on the thread that the batch executor runs tasks on.
+ */
+public class BatchedObservableList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E> source;
+    private final Executor batchExecutor;
+    private final List<E> elements;
+    private boolean isUpdatePending = false;
+
+    /**
+     * Creates a copy of {@code source} that is updated by tasks run on {@code batchExecutor}.
+     */
+    public BatchedObservableList(ObservableList<? extends E> source, Executor batchExecutor) {
+        requireNonNull(source);
+        requireNonNull(batchExecutor);
+        this.source = source;
+        this.batchExecutor = batchExecutor;
+        elements = new ArrayList<>(source);
+        source.addListener((InvalidationListener) unused -> scheduleUpdate());
+    }
+
+    /**
+     * Creates a copy of {@code source} that is updated at the start of the next pulse after it changes, so that the
+     * UI is laid out and rendered once for all the changes made since the last pulse.
+     */
+    public BatchedObservableList(ObservableList<? extends E> source) {
+        this(source, new PulseExecutor());
+    }
+
+    private void scheduleUpdate() {
+        if (!isUpdatePending) {
+            isUpdatePending = true;
+            batchExecutor.execute(this::update);
+        }
+    }
+
+    /**
+     * Brings this list up to date with the source, firing a single change for the range of elements that differ.
+     */
+    private void update() {
+        isUpdatePending = false;
+
+        int oldSize = elements.size();
+        int newSize = source.size();
+        int minSize = Math.min(oldSize, newSize);
+        int from = 0;
+        while (from < minSize && elements.get(from) == source.get(from)) {
+            from++;
+        }
+        int unchangedEnd = 0;
+        while (unchangedEnd < minSize - from
+                && elements.get(oldSize - 1 - unchangedEnd) == source.get(newSize - 1 - unchangedEnd)) {
+            unchangedEnd++;
+        }
+        int oldTo = oldSize - unchangedEnd;
+        int newTo = newSize - unchangedEnd;
+        if (from == oldTo && from == newTo) {
+            return;
+        }
+
+        List<E> changedRange = elements.subList(from, oldTo);
+        List<E> removed = new ArrayList<>(changedRange);
+        changedRange.clear();
+        changedRange.addAll(source.subList(from, newTo));
+
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(from, newTo);
+        } else if (from == newTo) {
+            nextRemove(from, removed);
+        } else {
+            nextReplace(from, newTo, removed);
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+}
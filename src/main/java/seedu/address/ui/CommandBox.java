@@ -1,12 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,30 +21,117 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String PENDING_STYLE_CLASS = "pending";
     private static final String FXML = "CommandBox.fxml";
+    private static final int MAX_COMPLETIONS = 8;
 
     private final CommandExecutor commandExecutor;
+    private final CompletionSource completionSource;
+    private final LiveSearcher liveSearcher;
+    private final ContextMenu completionMenu = new ContextMenu();
+    private int pendingCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    /**
+     * Creates a command box that executes entered commands with {@code commandExecutor}, suggests completions from
+     * {@code completionSource} and passes the text to {@code liveSearcher} as it is typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionSource completionSource,
+            LiveSearcher liveSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionSource = completionSource;
+        this.liveSearcher = liveSearcher;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // suggests completions of the last word as the user types.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showCompletions(newText));
+        // shows the persons found by a find command as it is typed, without waiting for Enter.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> liveSearcher.search(newText));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                completionMenu.hide();
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleCompletionKey);
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared at once, so that further commands can be typed and entered while the command runs.
+     * If the command fails, its text is put back in the command box, unless another command has been typed since.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        String commandText = commandTextField.getText();
+        commandTextField.setText("");
+        setPendingCommandCount(pendingCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((unused, failure) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (failure != null) {
+                if (commandTextField.getText().isEmpty()) {
+                    commandTextField.setText(commandText);
+                    commandTextField.positionCaret(commandText.length());
+                }
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Sets the number of entered commands that have not finished, and styles the command box to show whether there
+     * are any.
+     */
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (pendingCommandCount == 0) {
+            styleClass.remove(PENDING_STYLE_CLASS);
+        } else if (!styleClass.contains(PENDING_STYLE_CLASS)) {
+            styleClass.add(PENDING_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Shows the completions of {@code commandText} below the command box, or hides them if there are none.
+     */
+    private void showCompletions(String commandText) {
+        List<String> completions = completionSource.getCompletions(commandText, MAX_COMPLETIONS);
+        if (completions.isEmpty() || completions.equals(List.of(commandText))) {
+            completionMenu.hide();
+            return;
+        }
+
+        completionMenu.getItems().setAll(completions.stream()
+                .map(this::createCompletionItem)
+                .collect(Collectors.toList()));
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Returns a menu item that shows the completed last word of {@code completion}
+     * and replaces the text of the command box with {@code completion} when chosen.
+     */
+    private MenuItem createCompletionItem(String completion) {
+        MenuItem item = new MenuItem(completion.substring(completion.lastIndexOf(' ') + 1));
+        item.setOnAction(unused -> {
+            commandTextField.setText(completion);
+            commandTextField.positionCaret(completion.length());
+        });
+        return item;
+    }
+
+    /**
+     * Accepts the first completion when the Tab key is pressed while completions are shown.
+     */
+    private void handleCompletionKey(KeyEvent event) {
+        if (event.getCode() == KeyCode.TAB && completionMenu.isShowing() && !completionMenu.getItems().isEmpty()) {
+            completionMenu.getItems().get(0).fire();
+            event.consume();
         }
     }
 
@@ -67,11 +161,38 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future of the result, which is completed on the JavaFX
+         * application thread.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CompletionSource {
+        /**
+         * Returns up to {@code limit} completions of {@code commandText}.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String, int)
+         */
+        List<String> getCompletions(String commandText, int limit);
+    }
+
+    /**
+     * Represents a function that searches for persons as a command is typed.
+     */
+    @FunctionalInterface
+    public interface LiveSearcher {
+        /**
+         * Updates the search for the partially typed {@code commandText}.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#updateLiveSearch(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void search(String commandText);
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -12,10 +13,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -23,6 +23,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String RUNNING_STATUS = "Running: %1$s";
+    public static final String QUEUED_STATUS = "Queued: %1$s (after %2$d more)";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -33,7 +36,10 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
+    /** The number of commands entered that have not finished. */
+    private int pendingCommandCount = 0;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -107,16 +113,21 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // Changes to the person list are shown at most once a frame
+        personListPanel = new PersonListPanel(new BatchedObservableList<>(logic.getFilteredPersonList()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.addLoadingProgressListener(statusBarFooter::setLoadingProgress);
+        logic.addLoadingFailureListener(failure -> handleLoadingFailure());
+        logic.addSaveFailureListener(this::handleSaveFailure);
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions,
+                logic::updateLiveSearch);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -165,15 +176,48 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows that the address book could not be loaded, so that commands that need it will be rejected.
+     */
+    private void handleLoadingFailure() {
+        resultDisplay.setFeedbackToUser(Messages.MESSAGE_ADDRESS_BOOK_LOADING_FAILED);
+        statusBarFooter.setLoadingFailed();
+    }
+
+    /**
+     * Shows that the address book could not be saved, until a later command saves it again.
+     */
+    private void handleSaveFailure(String message) {
+        logger.warning(message);
+        resultDisplay.setFeedbackToUser(message);
+        statusBarFooter.setSaveFailed(true);
+    }
+
+    /**
+     * Starts executing the command, and shows its result once it finishes. Until then, the result display shows
+     * that the command is running, or waiting for earlier commands to finish.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        pendingCommandCount++;
+        resultDisplay.setFeedbackToUser(pendingCommandCount == 1
+                ? String.format(RUNNING_STATUS, commandText)
+                : String.format(QUEUED_STATUS, commandText, pendingCommandCount - 1));
+
+        return logic.executeAsync(commandText).whenComplete((commandResult, failure) -> {
+            pendingCommandCount--;
+            if (failure != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            if (logic.getSavedAddressBookVersion() != Logic.NO_SAVED_VERSION) {
+                // the address book has been saved again since any earlier failure
+                statusBarFooter.setSaveFailed(false);
+            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -182,12 +226,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
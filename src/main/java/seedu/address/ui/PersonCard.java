@@ -1,19 +1,35 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.Objects;
 
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to another {@code Person} with {@link #setPerson(Person, int)}, so that a list cell can keep
+ * one card for its lifetime instead of creating a new one for every update. Cards are built in code by default, as
+ * loading them from FXML is much slower.
  */
 public class PersonCard extends UiPart<Region> {
 
+    /**
+     * The height of a card, which is the minimum height of its contents in {@code PersonListCard.fxml}.
+     * Cards are laid out at this height. Every other row of a card is a single line, and its tags are shown in a
+     * single {@link TagRow}, which ends with a count of the tags that do not fit, so that a card never needs more
+     * height.
+     */
+    public static final double HEIGHT = 105;
+
     private static final String FXML = "PersonListCard.fxml";
 
     /**
@@ -24,7 +40,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -39,19 +56,90 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label email;
     @FXML
-    private FlowPane tags;
+    private TagRow tags;
+
+    /**
+     * Creates a card that does not display any person until {@link #setPerson(Person, int)} is called.
+     * Its scene graph is built in code, and is the same as the one in {@code PersonListCard.fxml}.
+     */
+    public PersonCard() {
+        id = new Label();
+        id.setId("id");
+        id.getStyleClass().add("cell_big_label");
+        id.setMinWidth(Region.USE_PREF_SIZE); // Ensures that the label text is never truncated
+        name = createLabel("name", "$first", "cell_big_label");
+        HBox indexAndName = new HBox(5, id, name);
+        indexAndName.setAlignment(Pos.CENTER_LEFT);
+
+        tags = new TagRow();
+        tags.setId("tags");
+        phone = createLabel("phone", "$phone", "cell_small_label");
+        address = createLabel("address", "$address", "cell_small_label");
+        email = createLabel("email", "$email", "cell_small_label");
+
+        VBox details = new VBox(indexAndName, tags, phone, address, email);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(HEIGHT);
+        details.setPadding(new Insets(5, 5, 5, 15));
+        GridPane.setColumnIndex(details, 0);
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.getChildren().add(details);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane = new HBox(grid);
+        cardPane.setId("cardPane");
+        setRoot(cardPane);
+    }
+
+    private PersonCard(String fxmlFileName) {
+        super(fxmlFileName);
+    }
+
+    /**
+     * Creates a card like {@link #PersonCard()}, but loads its scene graph from {@code PersonListCard.fxml}.
+     */
+    public static PersonCard fromFxml() {
+        return new PersonCard(FXML);
+    }
 
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    private static Label createLabel(String id, String text, String styleClass) {
+        Label label = new Label(text);
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} on this card.
+     * The labels of the tags already on the card are reused for the tags of {@code person}.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        tags.setTags(person.getTags());
     }
 
     @Override
@@ -69,6 +157,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
@@ -1,12 +1,15 @@
 package seedu.address.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
@@ -20,16 +23,49 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    /**
+     * Creates a panel showing {@code personList}, whose scene graph and person cards are built in code, and are the
+     * same as the ones in {@code PersonListPanel.fxml} and {@code PersonListCard.fxml}.
+     */
     public PersonListPanel(ObservableList<Person> personList) {
-        super(FXML);
+        personListView = new ListView<>();
+        personListView.setId("personListView");
+        VBox.setVgrow(personListView, Priority.ALWAYS);
+        setRoot(new VBox(personListView));
+        setUpListView(personList, PersonCard::new);
+    }
+
+    private PersonListPanel(String fxmlFileName, ObservableList<Person> personList) {
+        super(fxmlFileName);
+        setUpListView(personList, PersonCard::fromFxml);
+    }
+
+    /**
+     * Creates a panel like {@link #PersonListPanel(ObservableList)}, but loads its scene graph and person cards from
+     * {@code PersonListPanel.fxml} and {@code PersonListCard.fxml}.
+     */
+    public static PersonListPanel fromFxml(ObservableList<Person> personList) {
+        return new PersonListPanel(FXML, personList);
+    }
+
+    private void setUpListView(ObservableList<Person> personList, Supplier<PersonCard> personCardFactory) {
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        // All cards have the same height, so the list view does not need to measure each cell
+        personListView.setFixedCellSize(PersonCard.HEIGHT);
+        personListView.setCellFactory(listView -> new PersonListViewCell(personCardFactory.get()));
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell keeps one card for its lifetime and rebinds it to each person it is updated with.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private final PersonCard personCard;
+
+        PersonListViewCell(PersonCard personCard) {
+            this.personCard = personCard;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -38,7 +74,8 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,38 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Runs tasks on the JavaFX application thread at the start of the next pulse, before the scene is laid out and
+ * rendered. All the tasks handed over between two pulses are run in the same pulse.
+ * A pulse is only requested while there are tasks waiting, so an idle executor does not keep the UI busy.
+ * <p>
+ * Tasks must be handed over on the JavaFX application thread.
+ */
+class PulseExecutor implements Executor {
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            List<Runnable> tasks = new ArrayList<>(pendingTasks);
+            pendingTasks.clear();
+            tasks.forEach(Runnable::run);
+        }
+    };
+
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        pendingTasks.add(task);
+        timer.start();
+    }
+
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
@@ -16,8 +17,32 @@ public class ResultDisplay extends UiPart<Region> {
     @FXML
     private TextArea resultDisplay;
 
+    /**
+     * Creates a result display whose scene graph is built in code, and is the same as the one in
+     * {@code ResultDisplay.fxml}.
+     */
     public ResultDisplay() {
-        super(FXML);
+        resultDisplay = new TextArea();
+        resultDisplay.setId("resultDisplay");
+        resultDisplay.setEditable(false);
+        resultDisplay.getStyleClass().add("result-display");
+
+        StackPane placeHolder = new StackPane(resultDisplay);
+        placeHolder.setId("placeHolder");
+        placeHolder.getStyleClass().add("pane-with-border");
+        setRoot(placeHolder);
+    }
+
+    private ResultDisplay(String fxmlFileName) {
+        super(fxmlFileName);
+    }
+
+    /**
+     * Creates a result display like {@link #ResultDisplay()}, but loads its scene graph from
+     * {@code ResultDisplay.fxml}.
+     */
+    public static ResultDisplay fromFxml() {
+        return new ResultDisplay(FXML);
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
@@ -4,23 +4,141 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import seedu.address.logic.AddressBookLoader;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String READING_STATUS = "Reading address book...";
+    public static final String LOADING_STATUS = "Loaded %1$d of %2$d persons";
+    public static final String LOADING_FAILED_STATUS = "Could not load address book";
+    public static final String SAVE_FAILED_STATUS = "%1$s (not saved)";
+
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String ERROR_STYLE_CLASS = "error";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox loadingStatusBox;
+
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private ProgressBar loadingProgress;
 
+    private String saveLocation;
+
+    /**
+     * Creates a status bar showing {@code saveLocation}, whose scene graph is built in code, and is the same as the
+     * one in {@code StatusBarFooter.fxml}.
+     */
     public StatusBarFooter(Path saveLocation) {
-        super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        saveLocationStatus = new Label();
+        saveLocationStatus.setId("saveLocationStatus");
+
+        loadingStatus = new Label();
+        loadingStatus.setId("loadingStatus");
+        loadingProgress = new ProgressBar();
+        loadingProgress.setId("loadingProgress");
+        loadingProgress.setPrefWidth(100);
+        loadingStatusBox = new HBox(5, loadingStatus, loadingProgress);
+        loadingStatusBox.setId("loadingStatusBox");
+        loadingStatusBox.setAlignment(Pos.CENTER_RIGHT);
+        loadingStatusBox.setVisible(false);
+        loadingStatusBox.setManaged(false);
+        GridPane.setColumnIndex(loadingStatusBox, 1);
+
+        ColumnConstraints saveLocationColumn = new ColumnConstraints();
+        saveLocationColumn.setHgrow(Priority.SOMETIMES);
+        saveLocationColumn.setMinWidth(10);
+        ColumnConstraints loadingStatusColumn = new ColumnConstraints();
+        loadingStatusColumn.setHgrow(Priority.NEVER);
+
+        GridPane statusBar = new GridPane();
+        statusBar.getStyleClass().add("status-bar");
+        statusBar.getColumnConstraints().addAll(saveLocationColumn, loadingStatusColumn);
+        statusBar.getChildren().addAll(saveLocationStatus, loadingStatusBox);
+        setRoot(statusBar);
+        setSaveLocation(saveLocation);
+    }
+
+    private StatusBarFooter(String fxmlFileName, Path saveLocation) {
+        super(fxmlFileName);
+        setSaveLocation(saveLocation);
+    }
+
+    /**
+     * Creates a status bar like {@link #StatusBarFooter(Path)}, but loads its scene graph from
+     * {@code StatusBarFooter.fxml}.
+     */
+    public static StatusBarFooter fromFxml(Path saveLocation) {
+        return new StatusBarFooter(FXML, saveLocation);
+    }
+
+    private void setSaveLocation(Path saveLocation) {
+        this.saveLocation = Paths.get(".").resolve(saveLocation).toString();
+        saveLocationStatus.setText(this.saveLocation);
+    }
+
+    /**
+     * Shows whether the address book could not be saved to the save location.
+     */
+    public void setSaveFailed(boolean isSaveFailed) {
+        if (isSaveFailed) {
+            saveLocationStatus.setText(String.format(SAVE_FAILED_STATUS, saveLocation));
+            if (!saveLocationStatus.getStyleClass().contains(ERROR_STYLE_CLASS)) {
+                saveLocationStatus.getStyleClass().add(ERROR_STYLE_CLASS);
+            }
+        } else {
+            saveLocationStatus.setText(saveLocation);
+            saveLocationStatus.getStyleClass().remove(ERROR_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Shows that {@code loadedCount} out of {@code totalCount} persons of the address book have been loaded, or hides
+     * the progress once all of them have been.
+     *
+     * @see AddressBookLoader.ProgressListener#progressChanged(int, int)
+     */
+    public void setLoadingProgress(int loadedCount, int totalCount) {
+        boolean isLoading = loadedCount != totalCount;
+        loadingStatusBox.setVisible(isLoading);
+        loadingStatusBox.setManaged(isLoading);
+        if (totalCount == AddressBookLoader.UNKNOWN_TOTAL) {
+            loadingStatus.setText(READING_STATUS);
+            loadingProgress.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        } else {
+            loadingStatus.setText(String.format(LOADING_STATUS, loadedCount, totalCount));
+            loadingProgress.setProgress(totalCount == 0 ? 1 : (double) loadedCount / totalCount);
+        }
+    }
+
+    /**
+     * Shows that the address book could not be loaded, in place of the progress of the loading.
+     *
+     * @see AddressBookLoader.FailureListener#loadingFailed(Throwable)
+     */
+    public void setLoadingFailed() {
+        loadingStatusBox.setVisible(true);
+        loadingStatusBox.setManaged(true);
+        loadingStatus.setText(LOADING_FAILED_STATUS);
+        loadingStatus.getStyleClass().add(ERROR_STYLE_CLASS);
+        loadingProgress.setVisible(false);
+        loadingProgress.setManaged(false);
     }
 
 }
@@ -0,0 +1,130 @@
+package seedu.address.ui;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
+import javafx.scene.shape.Rectangle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single row of tag labels, which is never taller than one label.
+ * The tags that do not fit in the width of the row are hidden, and a label at the end of the row, such as "+3", shows
+ * how many of them there are. Its tooltip lists all the tags. Anything still laid out beyond the bounds of the row,
+ * such as a label too wide for it, is cut off.
+ * <p>
+ * The tag labels are reused when the tags are changed, so that a card rebound to another person does not create new
+ * ones for it.
+ */
+public class TagRow extends HBox {
+
+    private final Label overflowLabel = new Label();
+    private final Tooltip allTags = new Tooltip();
+    private int tagCount = 0;
+
+    /**
+     * Creates a row without any tags.
+     */
+    public TagRow() {
+        setMinWidth(0);
+        overflowLabel.setMinWidth(USE_PREF_SIZE);
+        overflowLabel.setVisible(false);
+        overflowLabel.setTooltip(allTags);
+        getChildren().add(overflowLabel);
+
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(widthProperty());
+        clip.heightProperty().bind(heightProperty());
+        setClip(clip);
+    }
+
+    /**
+     * Shows {@code tags} in this row, in their iteration order.
+     */
+    public void setTags(Collection<Tag> tags) {
+        ObservableList<Node> children = getChildren();
+        int index = 0;
+        for (Tag tag : tags) {
+            if (index < tagCount) {
+                ((Label) children.get(index)).setText(tag.tagName);
+            } else {
+                Label tagLabel = new Label(tag.tagName);
+                tagLabel.setMinWidth(USE_PREF_SIZE); // Tags that do not fit are hidden rather than truncated
+                children.add(index, tagLabel);
+            }
+            index++;
+        }
+        children.remove(index, tagCount);
+        tagCount = index;
+        allTags.setText(tags.stream().map(tag -> tag.tagName).collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    protected void layoutChildren() {
+        Insets insets = getInsets();
+        double availableWidth = getWidth() - insets.getLeft() - insets.getRight();
+        double availableHeight = getHeight() - insets.getTop() - insets.getBottom();
+        List<Node> tagLabels = getChildren().subList(0, tagCount);
+
+        double[] tagWidths = new double[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tagWidths[i] = snapSizeX(tagLabels.get(i).prefWidth(-1));
+        }
+        int shownCount = countShownTags(tagWidths, getSpacing(), availableWidth, hiddenCount -> {
+            overflowLabel.setText("+" + hiddenCount);
+            return snapSizeX(overflowLabel.prefWidth(-1));
+        });
+
+        double x = insets.getLeft();
+        for (int i = 0; i < tagCount; i++) {
+            Node tagLabel = tagLabels.get(i);
+            tagLabel.setVisible(i < shownCount);
+            if (i < shownCount) {
+                layoutInArea(tagLabel, x, insets.getTop(), tagWidths[i], availableHeight, 0, HPos.LEFT,
+                        getAlignment().getVpos());
+                x += tagWidths[i] + getSpacing();
+            }
+        }
+
+        boolean isOverflowing = shownCount < tagCount;
+        overflowLabel.setVisible(isOverflowing);
+        if (isOverflowing) {
+            overflowLabel.setText("+" + (tagCount - shownCount));
+            layoutInArea(overflowLabel, x, insets.getTop(), snapSizeX(overflowLabel.prefWidth(-1)), availableHeight,
+                    0, HPos.LEFT, getAlignment().getVpos());
+        }
+    }
+
+    /**
+     * Returns how many of the tags, which have the given widths, are shown in a row of {@code availableWidth} that
+     * has {@code spacing} between its labels.
+     * If not all of the tags fit, the first ones are shown that fit together with the overflow label, whose width
+     * when it counts a number of hidden tags is given by {@code overflowWidth}.
+     */
+    static int countShownTags(double[] tagWidths, double spacing, double availableWidth,
+            IntToDoubleFunction overflowWidth) {
+        // widths[k] is the width taken by the first k tags
+        double[] widths = new double[tagWidths.length + 1];
+        for (int k = 1; k <= tagWidths.length; k++) {
+            widths[k] = widths[k - 1] + (k > 1 ? spacing : 0) + tagWidths[k - 1];
+        }
+        if (widths[tagWidths.length] <= availableWidth) {
+            return tagWidths.length;
+        }
+
+        for (int k = tagWidths.length - 1; k > 0; k--) {
+            if (widths[k] + spacing + overflowWidth.applyAsDouble(tagWidths.length - k) <= availableWidth) {
+                return k;
+            }
+        }
+        return 0;
+    }
+}
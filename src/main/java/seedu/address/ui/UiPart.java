@@ -10,14 +10,22 @@ import seedu.address.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
- * It contains a scene graph with a root node of type {@code T}.
+ * It contains a scene graph with a root node of type {@code T}, which is either loaded from a FXML file or built in
+ * code by the subclass.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private T root;
+
+    /**
+     * Constructs a UiPart whose scene graph is built in code rather than loaded from a FXML file.
+     * The subclass must build the scene graph and pass its root to {@link #setRoot(Object)} in its constructor.
+     */
+    protected UiPart() {
+    }
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -55,7 +63,17 @@ public abstract class UiPart<T> {
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
+    }
+
+    /**
+     * Sets the root object of the scene graph of a UiPart that is built in code.
+     *
+     * @see #UiPart()
+     */
+    protected void setRoot(T root) {
+        requireNonNull(root);
+        this.root = root;
     }
 
     /**
@@ -65,6 +83,7 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -73,6 +92,7 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        this.root = fxmlLoader.getRoot();
     }
 
     /**
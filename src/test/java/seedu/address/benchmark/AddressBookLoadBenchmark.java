@@ -0,0 +1,55 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how long it takes to load an address book against the size of the book.
+ * Reports both the bulk {@code AddressBook#setPersons} step on its own and a full read through
+ * {@code JsonAddressBookStorage}. Both should grow linearly with the book size.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=AddressBookLoadBenchmark [-Pargs="1000 10000"]}
+ */
+public class AddressBookLoadBenchmark {
+
+    /**
+     * Runs the benchmark for each book size in {@code args}, or for {@link BenchmarkUtil#DEFAULT_BOOK_SIZES}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dataFile = Files.createTempFile("AddressBookLoadBenchmark", ".json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFile);
+
+        System.out.printf("%10s %16s %16s%n", "persons", "setPersons (ms)", "json load (ms)");
+        for (int size : BenchmarkUtil.parseBookSizes(args)) {
+            List<Person> persons = BenchmarkUtil.generatePersons(size);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            storage.saveAddressBook(addressBook);
+
+            double setPersonsMillis = BenchmarkUtil.timeMillis(() -> {
+                AddressBook loaded = new AddressBook();
+                loaded.setPersons(persons);
+                return loaded;
+            });
+            double loadMillis = BenchmarkUtil.timeMillis(() -> read(storage));
+            System.out.printf("%10d %16.1f %16.1f%n", size, setPersonsMillis, loadMillis);
+        }
+
+        Files.delete(dataFile);
+    }
+
+    private static Object read(JsonAddressBookStorage storage) {
+        try {
+            return storage.readAddressBook().orElseThrow(AssertionError::new);
+        } catch (DataConversionException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
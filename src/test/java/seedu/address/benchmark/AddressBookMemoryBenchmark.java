@@ -0,0 +1,55 @@
+package seedu.address.benchmark;
+
+import java.lang.ref.Reference;
+import java.util.function.Supplier;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ColumnarAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the heap retained by an address book against the size of the book, for an {@code AddressBook}, whose
+ * {@code UniquePersonList} holds {@code Person} objects and their indexes, and for a {@code ColumnarAddressBook}.
+ * Figures are approximate as they are taken from {@code Runtime} after requesting garbage collection, so run with a
+ * fixed heap size (e.g. {@code -Xms2g -Xmx2g}) for more stable results.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=AddressBookMemoryBenchmark [-Pargs="1000 10000"]}
+ */
+public class AddressBookMemoryBenchmark {
+
+    /**
+     * Runs the benchmark for each book size in {@code args}, or for {@link BenchmarkUtil#DEFAULT_BOOK_SIZES}.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%10s %18s %18s %18s%n", "persons", "AddressBook (MB)", "columnar (MB)", "bytes/person");
+        for (int size : BenchmarkUtil.parseBookSizes(args)) {
+            long addressBookBytes = retainedBytes(() -> {
+                AddressBook addressBook = new AddressBook();
+                addressBook.setPersons(BenchmarkUtil.generatePersons(size));
+                return addressBook;
+            });
+            long columnarBytes = retainedBytes(() -> {
+                AddressBook addressBook = new AddressBook();
+                addressBook.setPersons(BenchmarkUtil.generatePersons(size));
+                return new ColumnarAddressBook(addressBook);
+            });
+            System.out.printf("%10d %18.1f %18.1f %8d / %-8d%n", size, toMegabytes(addressBookBytes),
+                    toMegabytes(columnarBytes), addressBookBytes / size, columnarBytes / size);
+        }
+    }
+
+    /**
+     * Returns the approximate number of bytes retained by the object returned by {@code factory}.
+     */
+    private static long retainedBytes(Supplier<Object> factory) {
+        long before = BenchmarkUtil.usedHeapBytes();
+        Object retained = factory.get();
+        long after = BenchmarkUtil.usedHeapBytes();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Helper functions shared by the benchmarks.
+ */
+public class BenchmarkUtil {
+
+    public static final int[] DEFAULT_BOOK_SIZES = {1_000, 10_000, 50_000, 100_000, 200_000};
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Fiona"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "owesMoney"};
+
+    /**
+     * Returns {@code size} persons with distinct identities and a realistic spread of tags.
+     */
+    public static List<Person> generatePersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[i % FIRST_NAMES.length] + " Person" + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Blk " + i + ", Clementi Ave " + (i % 9 + 1) + ", #" + (i % 99) + "-" + (i % 7))
+                    .withTags(Arrays.copyOfRange(TAGS, i % TAGS.length, Math.min(i % TAGS.length + i % 3, TAGS.length)))
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the book sizes given as {@code args}, or {@link #DEFAULT_BOOK_SIZES} if there are none.
+     */
+    public static int[] parseBookSizes(String[] args) {
+        return args.length == 0 ? DEFAULT_BOOK_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * Returns the number of bytes in use on the heap after requesting a few rounds of garbage collection.
+     */
+    public static long usedHeapBytes() {
+        final int gcRounds = 3;
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < gcRounds; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Runs {@code task} a few times to warm up the JIT and returns the best time in milliseconds of the runs after.
+     */
+    public static <T> double timeMillis(Supplier<T> task) {
+        final int warmUpRuns = 2;
+        final int measuredRuns = 3;
+        for (int i = 0; i < warmUpRuns; i++) {
+            task.get();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            task.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+}
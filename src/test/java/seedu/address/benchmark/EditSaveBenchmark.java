@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+
+/**
+ * Measures how long it takes to save an address book after editing one person in it, against the size of the book,
+ * for each storage. {@code SegmentedAddressBookStorage} should take about the same time for any size of book, while
+ * the others grow linearly with it.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=EditSaveBenchmark [-Pargs="1000 10000"]}
+ */
+public class EditSaveBenchmark {
+
+    /**
+     * Runs the benchmark for each book size in {@code args}, or for {@link BenchmarkUtil#DEFAULT_BOOK_SIZES}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dataDirectory = Files.createTempDirectory("EditSaveBenchmark");
+
+        System.out.printf("%10s %15s %15s %20s%n", "persons", "json (ms)", "binary (ms)", "segmented (ms)");
+        for (int size : BenchmarkUtil.parseBookSizes(args)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(BenchmarkUtil.generatePersons(size));
+
+            double jsonMillis = timeEditAndSave(addressBook,
+                    new JsonAddressBookStorage(dataDirectory.resolve(size + ".json")));
+            double binaryMillis = timeEditAndSave(addressBook,
+                    new BinaryAddressBookStorage(dataDirectory.resolve(size + ".bin")));
+            double segmentedMillis = timeEditAndSave(addressBook,
+                    new SegmentedAddressBookStorage(dataDirectory.resolve(size + ".seg")));
+            System.out.printf("%10d %15.1f %15.1f %20.1f%n", size, jsonMillis, binaryMillis, segmentedMillis);
+        }
+
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code storage}, and then times editing the person in the middle of it and saving
+     * it again.
+     */
+    private static double timeEditAndSave(AddressBook addressBook, AddressBookStorage storage) throws IOException {
+        storage.saveAddressBook(addressBook);
+        int middle = addressBook.getPersonList().size() / 2;
+        return BenchmarkUtil.timeMillis(() -> {
+            Person person = addressBook.getPersonList().get(middle);
+            String newPhone = person.getPhone().value.equals("999") ? "998" : "999";
+            addressBook.setPerson(person, new Person(person.getName(), new Phone(newPhone), person.getEmail(),
+                    person.getAddress(), person.getTags()));
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            return storage;
+        });
+    }
+}
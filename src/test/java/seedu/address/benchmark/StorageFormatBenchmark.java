@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares how long it takes to save and load an address book through {@code JsonAddressBookStorage} and
+ * {@code BinaryAddressBookStorage}, and how large the data file is in each format, against the size of the book.
+ * Also reports how long it takes to open the binary file as a memory-mapped book, which should not grow with the size
+ * of the book.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=StorageFormatBenchmark [-Pargs="1000 10000"]}
+ */
+public class StorageFormatBenchmark {
+
+    /**
+     * Runs the benchmark for each book size in {@code args}, or for {@link BenchmarkUtil#DEFAULT_BOOK_SIZES}.
+     */
+    public static void main(String[] args) throws IOException {
+        Path jsonFile = Files.createTempFile("StorageFormatBenchmark", ".json");
+        Path binaryFile = Files.createTempFile("StorageFormatBenchmark", ".bin");
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFile);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFile);
+
+        System.out.printf("%10s %15s %15s %15s %15s %16s %12s %12s%n", "persons", "json save (ms)", "bin save (ms)",
+                "json load (ms)", "bin load (ms)", "mapped open (ms)", "json (KB)", "bin (KB)");
+        for (int size : BenchmarkUtil.parseBookSizes(args)) {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(BenchmarkUtil.generatePersons(size));
+
+            double jsonSaveMillis = BenchmarkUtil.timeMillis(() -> save(jsonStorage, addressBook));
+            double binarySaveMillis = BenchmarkUtil.timeMillis(() -> save(binaryStorage, addressBook));
+            double jsonLoadMillis = BenchmarkUtil.timeMillis(() -> read(jsonStorage));
+            double binaryLoadMillis = BenchmarkUtil.timeMillis(() -> read(binaryStorage));
+            double mappedOpenMillis = BenchmarkUtil.timeMillis(() -> readMapped(binaryStorage, binaryFile));
+            System.out.printf("%10d %15.1f %15.1f %15.1f %15.1f %16.2f %12d %12d%n", size, jsonSaveMillis,
+                    binarySaveMillis, jsonLoadMillis, binaryLoadMillis, mappedOpenMillis,
+                    Files.size(jsonFile) / 1024, Files.size(binaryFile) / 1024);
+        }
+
+        Files.delete(jsonFile);
+        Files.delete(binaryFile);
+    }
+
+    private static Object save(AddressBookStorage storage, AddressBook addressBook) {
+        try {
+            storage.saveAddressBook(addressBook);
+            return storage;
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Object readMapped(BinaryAddressBookStorage storage, Path filePath) {
+        try {
+            return storage.readMappedAddressBook(filePath).orElseThrow(AssertionError::new);
+        } catch (DataConversionException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Object read(AddressBookStorage storage) {
+        try {
+            return storage.readAddressBook().orElseThrow(AssertionError::new);
+        } catch (DataConversionException | IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.VBox;
+import seedu.address.MainApp;
+import seedu.address.model.person.Person;
+import seedu.address.ui.PersonCard;
+import seedu.address.ui.PersonListPanel;
+import seedu.address.ui.ResultDisplay;
+import seedu.address.ui.StatusBarFooter;
+
+/**
+ * Compares the UI parts loaded from FXML with the ones built in code, against the number of persons in the list:
+ * the time taken to create the person list panel, result display and status bar and lay them out in a window-sized
+ * scene, as at startup, and the time taken to scroll through the list a page at a time.
+ * Also prints the time taken to create a single {@code PersonCard} each way.
+ * <p>
+ * The JavaFX toolkit is started for the benchmark, so it needs a display, as the app does.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=UiBenchmark [-Pargs="1000 10000"]}
+ */
+public class UiBenchmark {
+
+    private static final double SCENE_WIDTH = 800;
+    private static final double SCENE_HEIGHT = 600;
+    private static final int SCROLLED_PAGES = 100;
+    private static final int CREATED_CARDS = 1000;
+
+    /**
+     * Runs the benchmark for each book size in {@code args}, or for {@link BenchmarkUtil#DEFAULT_BOOK_SIZES}.
+     */
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        double fxmlCardMicros = runOnFxThread(() -> BenchmarkUtil.timeMillis(() -> createCards(PersonCard::fromFxml)))
+                * 1000 / CREATED_CARDS;
+        double codeCardMicros = runOnFxThread(() -> BenchmarkUtil.timeMillis(() -> createCards(PersonCard::new)))
+                * 1000 / CREATED_CARDS;
+        System.out.printf("PersonCard creation: fxml %.1f us, code %.1f us%n%n", fxmlCardMicros, codeCardMicros);
+
+        System.out.printf("%10s %18s %18s %20s %20s%n", "persons", "fxml startup (ms)", "code startup (ms)",
+                "fxml scroll (ms)", "code scroll (ms)");
+        for (int size : BenchmarkUtil.parseBookSizes(args)) {
+            ObservableList<Person> persons = FXCollections.observableArrayList(BenchmarkUtil.generatePersons(size));
+            double fxmlStartupMillis = runOnFxThread(() -> BenchmarkUtil.timeMillis(() -> showParts(persons, true)));
+            double codeStartupMillis = runOnFxThread(() -> BenchmarkUtil.timeMillis(() -> showParts(persons, false)));
+            double fxmlScrollMillis = runOnFxThread(() -> timeScrolling(showParts(persons, true)));
+            double codeScrollMillis = runOnFxThread(() -> timeScrolling(showParts(persons, false)));
+            System.out.printf("%10d %18.1f %18.1f %20.1f %20.1f%n", size, fxmlStartupMillis, codeStartupMillis,
+                    fxmlScrollMillis, codeScrollMillis);
+        }
+
+        Platform.exit();
+    }
+
+    private static Object createCards(Supplier<PersonCard> personCardFactory) {
+        PersonCard lastCard = null;
+        for (int i = 0; i < CREATED_CARDS; i++) {
+            lastCard = personCardFactory.get();
+        }
+        return lastCard;
+    }
+
+    /**
+     * Creates the parts that show {@code persons}, either loaded from FXML or built in code, and lays them out in a
+     * window-sized scene styled like the main window. Returns the root of the scene.
+     */
+    private static Parent showParts(ObservableList<Person> persons, boolean isFromFxml) {
+        PersonListPanel personListPanel = isFromFxml
+                ? PersonListPanel.fromFxml(persons)
+                : new PersonListPanel(persons);
+        ResultDisplay resultDisplay = isFromFxml ? ResultDisplay.fromFxml() : new ResultDisplay();
+        StatusBarFooter statusBarFooter = isFromFxml
+                ? StatusBarFooter.fromFxml(Paths.get("data", "addressbook.json"))
+                : new StatusBarFooter(Paths.get("data", "addressbook.json"));
+
+        VBox root = new VBox(resultDisplay.getRoot(), personListPanel.getRoot(), statusBarFooter.getRoot());
+        Scene scene = new Scene(root, SCENE_WIDTH, SCENE_HEIGHT);
+        scene.getStylesheets().addAll(MainApp.class.getResource("/view/DarkTheme.css").toExternalForm(),
+                MainApp.class.getResource("/view/Extensions.css").toExternalForm());
+        layOut(root);
+        return root;
+    }
+
+    /**
+     * Returns the time in milliseconds taken to scroll the person list in {@code root} down a page at a time, laying
+     * out the scene after each page as a frame would.
+     */
+    @SuppressWarnings("unchecked")
+    private static double timeScrolling(Parent root) {
+        ListView<Person> personListView = (ListView<Person>) root.lookup("#personListView");
+        int pageSize = (int) (personListView.getHeight() / PersonCard.HEIGHT);
+        int pages = Math.min(SCROLLED_PAGES, personListView.getItems().size() / Math.max(pageSize, 1));
+        long start = System.nanoTime();
+        for (int page = 1; page <= pages; page++) {
+            personListView.scrollTo(page * pageSize);
+            layOut(root);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private static void layOut(Parent root) {
+        root.applyCss();
+        root.layout();
+    }
+
+    /**
+     * Runs {@code task} on the JavaFX application thread, which the parts must be created and laid out on, and
+     * returns its result.
+     */
+    private static <T> T runOnFxThread(Supplier<T> task) throws InterruptedException, ExecutionException {
+        FutureTask<T> futureTask = new FutureTask<>(task::get);
+        Platform.runLater(futureTask);
+        return futureTask.get();
+    }
+}
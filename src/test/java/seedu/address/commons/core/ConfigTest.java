@@ -11,7 +11,11 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Journaled storage : false\n"
+                + "Journal fsync policy : BATCHED\n"
+                + "Compact json storage : false\n"
+                + "Progressive loading : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
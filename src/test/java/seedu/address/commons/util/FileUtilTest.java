@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,22 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void moveReplacing() throws Exception {
+        Path source = testFolder.resolve("source");
+        Path target = testFolder.resolve("target");
+
+        // missing target -> source moved to target
+        FileUtil.writeToFile(source, "first");
+        FileUtil.moveReplacing(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("first", FileUtil.readFromFile(target));
+
+        // existing target -> target replaced
+        FileUtil.writeToFile(source, "second");
+        FileUtil.moveReplacing(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("second", FileUtil.readFromFile(target));
+    }
+
 }
@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,85 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toNormalizedWords --------------------------------------
+
+    @Test
+    public void toNormalizedWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toNormalizedWords(null));
+    }
+
+    @Test
+    public void toNormalizedWords_validInputs_correctResult() {
+        // Empty sentence
+        assertEquals(Collections.emptySet(), StringUtil.toNormalizedWords("")); // Boundary case
+        assertEquals(Collections.emptySet(), StringUtil.toNormalizedWords("    "));
+
+        // Extra spaces, mixed case and repeated words
+        assertEquals(new LinkedHashSet<>(Arrays.asList("aaa", "bbb", "ccc@1")),
+                StringUtil.toNormalizedWords("  AAA   bBb   ccc@1 bbb "));
+    }
+
+    //---------------- Tests for boundedEditDistance --------------------------------------
+
+    @Test
+    public void boundedEditDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.boundedEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void boundedEditDistance_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.boundedEditDistance("", "", 0)); // Boundary case
+        assertEquals(0, StringUtil.boundedEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "alce", 2)); // deletion
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "alicia", 2)); // substitution and insertion
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "alcie", 2)); // transposition
+        assertEquals(2, StringUtil.boundedEditDistance("", "ab", 2));
+        assertEquals(3, StringUtil.boundedEditDistance("kitten", "sitting", 5));
+    }
+
+    @Test
+    public void boundedEditDistance_beyondBound_returnsBoundPlusOne() {
+        assertEquals(1, StringUtil.boundedEditDistance("alice", "alicia", 0));
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "bob", 1)); // lengths too far apart
+        assertEquals(3, StringUtil.boundedEditDistance("kitten", "sitting", 2));
+        assertEquals(3, StringUtil.boundedEditDistance("abcdef", "fedcba", 2));
+    }
+
+    //---------------- Tests for toSoundex --------------------------------------
+
+    @Test
+    public void toSoundex_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSoundex(null));
+    }
+
+    @Test
+    public void toSoundex_validInputs_correctResult() {
+        // No letters
+        assertEquals("", StringUtil.toSoundex("")); // Boundary case
+        assertEquals("", StringUtil.toSoundex("123-"));
+
+        // Words that sound alike
+        assertEquals("R163", StringUtil.toSoundex("Robert"));
+        assertEquals("R163", StringUtil.toSoundex("rupert"));
+        assertEquals("R150", StringUtil.toSoundex("Rubin"));
+
+        // Padding and truncation
+        assertEquals("L000", StringUtil.toSoundex("Lee"));
+        assertEquals("W252", StringUtil.toSoundex("Washington"));
+
+        // Same digits separated by H or W are coded once, but not when separated by a vowel
+        assertEquals("A261", StringUtil.toSoundex("Ashcraft"));
+        assertEquals("T522", StringUtil.toSoundex("Tymczak"));
+
+        // First letter with the same digit as the next letter
+        assertEquals("P236", StringUtil.toSoundex("Pfister"));
+
+        // Non-letters are ignored
+        assertEquals("O254", StringUtil.toSoundex("O'Conell"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.AddressBookLoader.UNKNOWN_TOTAL;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final List<List<Integer>> progress = new ArrayList<>();
+    private final List<Throwable> failures = new ArrayList<>();
+
+    private void recordProgress(int loadedCount, int totalCount) {
+        progress.add(Arrays.asList(loadedCount, totalCount));
+    }
+
+    @Test
+    public void constructor_nonPositiveBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookLoader(AddressBook::new, model, Runnable::run, 0));
+    }
+
+    @Test
+    public void load_typicalAddressBook_personsAddedInBatches() {
+        // the typical address book has 7 persons
+        AddressBookLoader loader = new AddressBookLoader(() -> getTypicalAddressBook(), model, Runnable::run, 3);
+        loader.addProgressListener(this::recordProgress);
+        assertFalse(loader.isLoaded());
+
+        loader.load();
+        assertTrue(loader.isLoaded());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(Arrays.asList(Arrays.asList(0, UNKNOWN_TOTAL), Arrays.asList(0, 7), Arrays.asList(3, 7),
+                Arrays.asList(6, 7), Arrays.asList(7, 7)), progress);
+    }
+
+    @Test
+    public void load_emptyAddressBook_loaded() {
+        AddressBookLoader loader = new AddressBookLoader(AddressBook::new, model, Runnable::run);
+        loader.load();
+        assertTrue(loader.isLoaded());
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        // listeners added after loading are told that it has finished
+        loader.addProgressListener(this::recordProgress);
+        assertEquals(Arrays.asList(Arrays.asList(0, 0)), progress);
+    }
+
+    @Test
+    public void load_readerThrows_loadingFailed() {
+        IllegalStateException failure = new IllegalStateException("cannot read");
+        AddressBookLoader loader = new AddressBookLoader(() -> {
+            throw failure;
+        }, model, Runnable::run);
+        loader.addFailureListener(failures::add);
+
+        loader.load();
+        assertFalse(loader.isLoaded());
+        assertTrue(loader.isFailed());
+        assertEquals(Arrays.asList(failure), failures);
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        // listeners added after the loading has failed are told at once
+        List<Throwable> laterFailures = new ArrayList<>();
+        loader.addFailureListener(laterFailures::add);
+        assertEquals(Arrays.asList(failure), laterFailures);
+    }
+
+    @Test
+    public void load_addingPersonsThrows_loadingFailed() {
+        IllegalStateException failure = new IllegalStateException("cannot add");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPersons(List<Person> persons) {
+                throw failure;
+            }
+        };
+        AddressBookLoader loader = new AddressBookLoader(() -> getTypicalAddressBook(), failingModel, Runnable::run);
+        loader.addFailureListener(failures::add);
+
+        loader.load();
+        assertFalse(loader.isLoaded());
+        assertTrue(loader.isFailed());
+        assertEquals(Arrays.asList(failure), failures);
+    }
+
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandCompleterTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandCompleter completer = new CommandCompleter(model);
+
+    @Test
+    public void getCompletions_findKeyword_completesNameWords() {
+        assertEquals(Arrays.asList("find alice meier", "find alice meyer"),
+                completer.getCompletions("find alice Me", 10));
+        assertEquals(Arrays.asList("find alice meier"), completer.getCompletions("find alice Me", 1));
+    }
+
+    @Test
+    public void getCompletions_tagPrefix_completesTagNames() {
+        assertEquals(Arrays.asList("edit 1 t/friends"), completer.getCompletions("edit 1 t/fr", 10));
+        assertEquals(Arrays.asList("filter t/owesMoney|friends"),
+                completer.getCompletions("filter t/owesMoney|f", 10));
+        assertEquals(Arrays.asList("filter t/!friends"), completer.getCompletions("filter t/!f", 10));
+    }
+
+    @Test
+    public void getCompletions_nothingToComplete_returnsEmptyList() {
+        // command word
+        assertEquals(Collections.emptyList(), completer.getCompletions("fi", 10));
+
+        // no partial word
+        assertEquals(Collections.emptyList(), completer.getCompletions("find ", 10));
+
+        // names are only completed for find
+        assertEquals(Collections.emptyList(), completer.getCompletions("add n/Al", 10));
+
+        // no matching word
+        assertEquals(Collections.emptyList(), completer.getCompletions("find zz", 10));
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ScheduledExecutorService searchExecutor = Executors.newSingleThreadScheduledExecutor();
+    /** The tasks that update the model, which the test thread runs as the model's thread. */
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final CountingModelManager model = new CountingModelManager();
+    private final LiveSearch liveSearch = new LiveSearch(model, modelTasks::add, searchExecutor, 0);
+
+    @AfterEach
+    public void tearDown() {
+        searchExecutor.shutdownNow();
+    }
+
+    private Runnable takeModelTask() throws InterruptedException {
+        Runnable task = modelTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task, "No search finished in time");
+        return task;
+    }
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LiveSearch(model, Runnable::run, searchExecutor, -1));
+    }
+
+    @Test
+    public void search_findKeywords_showsPersonsWithMatchingNameWords() throws Exception {
+        liveSearch.search("find mei KU");
+        takeModelTask().run();
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_findWithoutKeywords_showsAllPersons() throws Exception {
+        liveSearch.search("find mei");
+        takeModelTask().run();
+
+        liveSearch.search("find ");
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertNull(modelTasks.poll());
+    }
+
+    @Test
+    public void search_notFindCommand_personsShownUnchanged() throws Exception {
+        for (String commandText : new String[] {"", "fin", "find", "findmei", "list", "delete 1"}) {
+            liveSearch.search(commandText);
+        }
+        searchExecutor.schedule(() -> { }, 0, TimeUnit.MILLISECONDS).get(); // waits for any searches started
+        assertNull(modelTasks.poll());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_keywordsExtended_onlyLastMatchesSearched() throws Exception {
+        liveSearch.search("find me");
+        takeModelTask().run();
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+        assertEquals(1, model.addressBookReads);
+
+        liveSearch.search("find mei");
+        takeModelTask().run();
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(1, model.addressBookReads);
+
+        // a different keyword is searched for in the whole address book
+        liveSearch.search("find k");
+        takeModelTask().run();
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+        assertEquals(2, model.addressBookReads);
+    }
+
+    @Test
+    public void search_newerSearchStarted_staleResultNotShown() throws Exception {
+        liveSearch.search("find mei");
+        Runnable staleTask = takeModelTask();
+        liveSearch.search("find k");
+        staleTask.run();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        takeModelTask().run();
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_delayNotElapsed_pendingSearchCancelled() throws Exception {
+        LiveSearch delayedSearch = new LiveSearch(model, modelTasks::add, searchExecutor,
+                TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        delayedSearch.search("find mei");
+        delayedSearch.search("find ");
+        List<Runnable> notStarted = searchExecutor.shutdownNow();
+        assertEquals(1, notStarted.size());
+        assertTrue(((Future<?>) notStarted.get(0)).isCancelled());
+    }
+
+    @Test
+    public void search_addressBookChangedWhileSearching_searchRepeated() throws Exception {
+        liveSearch.search("find mei");
+        Runnable outdatedTask = takeModelTask();
+        model.addPerson(HOON);
+        outdatedTask.run();
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getFilteredPersonList().size());
+
+        takeModelTask().run();
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_personsAddedAndEditedAfterSearch_listedIfMatching() throws Exception {
+        liveSearch.search("find mei");
+        takeModelTask().run();
+
+        model.addPersons(Arrays.asList(HOON, IDA));
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Muller").build());
+        assertEquals(Arrays.asList(DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    /**
+     * A {@code ModelManager} that counts how many times its address book is read.
+     */
+    private static class CountingModelManager extends ModelManager {
+        private int addressBookReads = 0;
+
+        CountingModelManager() {
+            super(getTypicalAddressBook(), new UserPrefs());
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            addressBookReads++;
+            return super.getAddressBook();
+        }
+    }
+
+}
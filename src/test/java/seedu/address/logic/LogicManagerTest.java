@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,14 +13,29 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,13 +44,17 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long TIMEOUT_SECONDS = 5;
 
     @TempDir
     public Path temporaryFolder;
@@ -47,7 +68,7 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
     }
 
     @Test
@@ -76,7 +97,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -88,6 +109,213 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_backgroundWriteFails_failureReportedAndSavedAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage, Runnable::run);
+        List<String> failureMessages = new ArrayList<>();
+        logic.addSaveFailureListener(failureMessages::add);
+
+        // the command succeeds, and the failure is reported once the address book has been written
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                failureMessages);
+        assertEquals(Logic.NO_SAVED_VERSION, logic.getSavedAddressBookVersion());
+
+        // the next command saves the address book again
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(2, failureMessages.size());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterSave_addressBookNotSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        assertEquals(Logic.NO_SAVED_VERSION, logic.getSavedAddressBookVersion());
+
+        // first command saves the address book
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFilePath));
+        assertEquals(model.getAddressBookVersion(), logic.getSavedAddressBookVersion());
+
+        // unchanged address book is not saved again
+        Files.delete(addressBookFilePath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " Amy");
+        assertFalse(Files.exists(addressBookFilePath));
+
+        // modified address book is saved
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(addressBookFilePath));
+        assertEquals(model.getAddressBookVersion(), logic.getSavedAddressBookVersion());
+    }
+
+    @Test
+    public void execute_convertCommand_addressBookSavedInNewFormat() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(addressBookFilePath));
+
+        // unchanged address book is saved again in the new format
+        logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(addressBookFilePath));
+        assertEquals(model.getAddressBook(), new BinaryAddressBookStorage(addressBookFilePath).readAddressBook().get());
+
+        // converting to the current format does not save the address book again
+        Files.delete(addressBookFilePath);
+        logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logic.execute(ConvertCommand.COMMAND_WORD + " json");
+        assertTrue(Files.exists(addressBookFilePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_addressBookLoadingFailed_commandsRejected() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(() -> {
+            throw new IllegalStateException();
+        }, model, Runnable::run);
+        logic = new LogicManager(model, storage, loader, Runnable::run);
+        List<Throwable> failures = new ArrayList<>();
+        logic.addLoadingFailureListener(failures::add);
+
+        loader.load();
+        assertFalse(logic.isAddressBookLoaded());
+        assertEquals(1, failures.size());
+        assertCommandException(ListCommand.COMMAND_WORD, Messages.MESSAGE_ADDRESS_BOOK_LOADING_FAILED);
+
+        // the empty address book must not replace the data file
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_addressBookLoading_commandsRejectedUntilLoaded() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(TypicalPersons::getTypicalAddressBook, model, Runnable::run);
+        logic = new LogicManager(model, storage, loader, Runnable::run);
+        assertFalse(logic.isAddressBookLoaded());
+
+        assertCommandException(ListCommand.COMMAND_WORD, Messages.MESSAGE_ADDRESS_BOOK_LOADING);
+
+        // commands that do not need the address book are executed, but the partly loaded address book is not saved
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        assertFalse(Files.exists(addressBookFilePath));
+
+        loader.load();
+        assertTrue(logic.isAddressBookLoaded());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS,
+                new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs()));
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void executeAsync_validCommands_executedInSubmissionOrder() throws Throwable {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> add = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> delete = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson), getResult(add).getFeedbackToUser());
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, expectedPerson),
+                getResult(delete).getFeedbackToUser());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, getResult(list).getFeedbackToUser());
+        assertEquals(new ModelManager(), model);
+        assertEquals(model.getAddressBookVersion(), logic.getSavedAddressBookVersion());
+    }
+
+    @Test
+    public void executeAsync_invalidCommands_completedExceptionally() {
+        CompletableFuture<CommandResult> unknownCommand = logic.executeAsync("uicfhmowqewca");
+        CompletableFuture<CommandResult> invalidIndex = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 9");
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> getResult(unknownCommand));
+        assertThrows(CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, () -> getResult(invalidIndex));
+    }
+
+    @Test
+    public void executeAsync_modelExecutor_onlyExecutionRunOnModelThread() throws Throwable {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, storage, null, modelTasks::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> add = logic.executeAsync(addCommand);
+
+        // the command is parsed on the background thread, and then waits for the model's thread to execute it
+        Runnable execution = modelTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(new ModelManager(), model);
+        execution.run();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+
+        // the address book is saved on the background thread, and the future is then completed on the model's thread
+        Runnable completion = modelTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(Files.exists(addressBookFilePath));
+        assertFalse(add.isDone());
+        completion.run();
+        assertTrue(add.isDone());
+        assertEquals(expectedModel.getAddressBook(), new JsonAddressBookStorage(addressBookFilePath)
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void shutdown_commandsWaitingForModelThread_executedAndSaved() throws Throwable {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, storage, null, modelTasks::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.executeAsync(addCommand);
+        logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+
+        // the test thread is the model's thread, and is busy shutting down, so no model tasks are run
+        logic.shutdown();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getAddressBook(), new JsonAddressBookStorage(addressBookFilePath)
+                .readAddressBook().get());
+
+        CompletableFuture<CommandResult> rejected = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, Messages.MESSAGE_SHUT_DOWN, () -> getResult(rejected));
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completedExceptionally() {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw new AssertionError("failure");
+            }
+        };
+        logic = new LogicManager(failingModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Runnable::run);
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertThrows(AssertionError.class, "failure", () -> getResult(list));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,6 +374,17 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Waits for the command executed asynchronously to finish, and returns its result or throws its exception.
+     */
+    private static CommandResult getResult(CompletableFuture<CommandResult> future) throws Throwable {
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            throw ee.getCause();
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
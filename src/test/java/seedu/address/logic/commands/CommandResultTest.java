@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +35,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different addressBookFormat value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", AddressBookFormat.JSON)));
+        assertFalse(new CommandResult("feedback", AddressBookFormat.JSON)
+                .equals(new CommandResult("feedback", AddressBookFormat.BINARY)));
     }
 
     @Test
@@ -50,5 +57,8 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different addressBookFormat value -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", AddressBookFormat.BINARY).hashCode());
     }
 }
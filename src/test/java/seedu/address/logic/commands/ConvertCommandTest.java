@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFormat_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ConvertCommand(null));
+    }
+
+    @Test
+    public void execute_binary_resultHasFormat() {
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ConvertCommand.MESSAGE_SUCCESS, AddressBookFormat.BINARY), AddressBookFormat.BINARY);
+        assertCommandSuccess(new ConvertCommand(AddressBookFormat.BINARY), model, expectedCommandResult,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToJsonCommand = new ConvertCommand(AddressBookFormat.JSON);
+
+        // same object -> returns true
+        assertTrue(convertToJsonCommand.equals(convertToJsonCommand));
+
+        // same values -> returns true
+        assertTrue(convertToJsonCommand.equals(new ConvertCommand(AddressBookFormat.JSON)));
+
+        // different types -> returns false
+        assertFalse(convertToJsonCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(convertToJsonCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(convertToJsonCommand.equals(new ConvertCommand(AddressBookFormat.BINARY)));
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(preparePredicate("t/friends"));
+        FilterCommand filterSecondCommand = new FilterCommand(preparePredicate("t/!friends"));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(preparePredicate("t/friends"))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_unknownTag_noPersonFound() {
+        assertFilterSuccess("t/unknown", 0);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_singleTag_multiplePersonsFound() {
+        assertFilterSuccess("t/friends", 3);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_conjunctionOfTags_onePersonFound() {
+        assertFilterSuccess("t/friends t/owesMoney", 1);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_negatedTag_multiplePersonsFound() {
+        assertFilterSuccess("t/friends|unknown t/!owesMoney", 2);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_onlyNegatedTag_personsWithoutTagFound() {
+        assertFilterSuccess("t/!friends", expectedModel.getAddressBook().getPersonList().size() - 3);
+    }
+
+    @Test
+    public void execute_afterPersonEdited_usesUpdatedTags() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        model.setPerson(ALICE, editedAlice);
+        expectedModel.setPerson(ALICE, editedAlice);
+        assertFilterSuccess("t/friends", 2);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsAddedAndEditedAfterFilter_listedIfMatching() {
+        new FilterCommand(preparePredicate("t/friends")).execute(model);
+
+        // the first change after the filter is already tested against the tags
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedCarl, DANIEL), model.getFilteredPersonList());
+        model.setPerson(editedCarl, CARL);
+
+        Person matchingPerson = new PersonBuilder().withName("Hans Kurz").withTags("friends").build();
+        model.addPersons(Arrays.asList(matchingPerson, new PersonBuilder().withName("Ida Kurz").build()));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, matchingPerson), model.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        model.setPerson(ALICE, editedAlice);
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("91234567").build();
+        model.setPerson(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(BENSON, editedDaniel, matchingPerson), model.getFilteredPersonList());
+    }
+
+    /**
+     * Executes a {@code FilterCommand} parsed from {@code args} and checks that it lists {@code expectedCount}
+     * persons, the same persons as a full scan of the address book with the same predicate.
+     */
+    private void assertFilterSuccess(String args, int expectedCount) {
+        TagFilterPredicate predicate = preparePredicate(args);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedCount);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FilterCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Parses {@code userInput}, a space separated list of conditions such as {@code friends|!owesMoney},
+     * into a {@code TagFilterPredicate}.
+     */
+    private TagFilterPredicate preparePredicate(String userInput) {
+        List<List<TagLiteral>> clauses = new ArrayList<>();
+        for (String condition : userInput.split("\\s+")) {
+            List<TagLiteral> clause = new ArrayList<>();
+            for (String tagName : condition.substring(PREFIX_TAG.getPrefix().length()).split("\\|")) {
+                boolean isNegated = tagName.startsWith("!");
+                clause.add(new TagLiteral(new Tag(isNegated ? tagName.substring(1) : tagName), isNegated));
+            }
+            clauses.add(clause);
+        }
+        return new TagFilterPredicate(clauses);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +77,22 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsAddedAndEditedAfterFind_listedIfMatching() {
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"));
+        command.execute(model);
+
+        Person matchingPerson = new PersonBuilder().withName("Hans Kurz").build();
+        model.addPersons(Arrays.asList(matchingPerson, IDA));
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, matchingPerson), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        model.setPerson(CARL, editedCarl);
+        Person editedElle = new PersonBuilder(ELLE).withName("Ella Meyer").build();
+        model.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedCarl, FIONA, matchingPerson), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
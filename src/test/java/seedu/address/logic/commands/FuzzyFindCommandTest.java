@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(Collections.singletonList("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noSimilarWord_noPersonFound() throws Exception {
+        CommandResult result = new FuzzyFindCommand(Collections.singletonList("zzzzz")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltKeywords_personsRankedByDistance() throws Exception {
+        CommandResult result = new FuzzyFindCommand(Arrays.asList("Meyer", "kunz")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5), result.getFeedbackToUser());
+        // meyer and kunz match exactly, meier and kurz are one edit away, and ties are ordered by name
+        assertEquals(Arrays.asList(ELLE, FIONA, BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsAddedAndEditedAfterFind_listedIfSimilar() throws Exception {
+        new FuzzyFindCommand(Arrays.asList("kunz", "kurz")).execute(model);
+
+        Person similarPerson = new PersonBuilder().withName("Hans Kunze").build();
+        model.addPersons(Arrays.asList(similarPerson, new PersonBuilder().withName("Hans Meyer").build()));
+        assertEquals(Arrays.asList(CARL, FIONA, similarPerson), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, FIONA, similarPerson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenList_orderReset() throws Exception {
+        new FuzzyFindCommand(Arrays.asList("kunz", "kurz")).execute(model);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+
+        new ListCommand().execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+}
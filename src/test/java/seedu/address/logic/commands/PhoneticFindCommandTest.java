@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameSoundsLikeKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PhoneticFindCommand}.
+ */
+public class PhoneticFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PhoneticFindCommand findFirstCommand = new PhoneticFindCommand(Collections.singletonList("first"));
+        PhoneticFindCommand findSecondCommand = new PhoneticFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new PhoneticFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noSoundAlikeWord_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PhoneticFindCommand command = new PhoneticFindCommand(Collections.singletonList("Zack"));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_soundAlikeKeyword_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PhoneticFindCommand command = new PhoneticFindCommand(Collections.singletonList("Mayer"));
+        expectedModel.updateFilteredPersonList(new NameSoundsLikeKeywordsPredicate(Collections.singletonList("Mayer")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsAddedAndEditedAfterFind_listedIfSoundAlike() {
+        new PhoneticFindCommand(Collections.singletonList("Mayer")).execute(model);
+
+        Person soundAlikePerson = new PersonBuilder().withName("Hans Maier").build();
+        model.addPersons(Arrays.asList(soundAlikePerson, new PersonBuilder().withName("Hans Kurz").build()));
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE, soundAlikePerson), model.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(DANIEL, ELLE, soundAlikePerson), model.getFilteredPersonList());
+    }
+}
@@ -8,23 +8,32 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PhoneticFindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -76,6 +85,35 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(
+                FuzzyFindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FuzzyFindCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_phoneticFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        PhoneticFindCommand command = (PhoneticFindCommand) parser.parseCommand(
+                PhoneticFindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new PhoneticFindCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " t/foo|!bar");
+        assertEquals(new FilterCommand(new TagFilterPredicate(Collections.singletonList(Arrays.asList(
+                new TagLiteral(new Tag("foo"), false), new TagLiteral(new Tag("bar"), true))))), command);
+    }
+
+    @Test
+    public void parseCommand_convert() throws Exception {
+        ConvertCommand command = (ConvertCommand) parser.parseCommand(ConvertCommand.COMMAND_WORD + " binary");
+        assertEquals(new ConvertCommand(AddressBookFormat.BINARY), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, "json", new ConvertCommand(AddressBookFormat.JSON));
+        assertParseSuccess(parser, " \n BINARY \t", new ConvertCommand(AddressBookFormat.BINARY));
+        assertParseSuccess(parser, "Segmented", new ConvertCommand(AddressBookFormat.SEGMENTED));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "xml", expectedMessage);
+        assertParseFailure(parser, "json binary", expectedMessage);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " friends", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/hubby*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        TagLiteral friends = new TagLiteral(new Tag("friends"), false);
+        TagLiteral colleagues = new TagLiteral(new Tag("colleagues"), false);
+        TagLiteral notOwesMoney = new TagLiteral(new Tag("owesMoney"), true);
+
+        // single tag
+        assertParseSuccess(parser, " t/friends", new FilterCommand(new TagFilterPredicate(
+                Collections.singletonList(Collections.singletonList(friends)))));
+
+        // alternatives, negation and whitespace around tags
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagFilterPredicate(Arrays.asList(
+                Arrays.asList(friends, colleagues), Collections.singletonList(notOwesMoney))));
+        assertParseSuccess(parser, " t/friends|colleagues t/!owesMoney", expectedFilterCommand);
+        assertParseSuccess(parser, " \n t/ friends | colleagues \t t/ !owesMoney ", expectedFilterCommand);
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -193,4 +194,9 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseTag_sameTagNameTwice_returnsSharedTag() throws Exception {
+        assertSame(ParserUtil.parseTag(VALID_TAG_1), ParserUtil.parseTag(WHITESPACE + VALID_TAG_1 + WHITESPACE));
+    }
 }
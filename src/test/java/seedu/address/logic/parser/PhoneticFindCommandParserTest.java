@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PhoneticFindCommand;
+
+public class PhoneticFindCommandParserTest {
+
+    private PhoneticFindCommandParser parser = new PhoneticFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PhoneticFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsPhoneticFindCommand() {
+        // no leading and trailing whitespaces
+        PhoneticFindCommand expectedCommand = new PhoneticFindCommand(Arrays.asList("Alis", "Bop"));
+        assertParseSuccess(parser, "Alis Bop", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alis \n \t Bop  \t", expectedCommand);
+    }
+
+}
@@ -70,6 +70,37 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(ALICE));
     }
 
+    @Test
+    public void getVersion_afterModifications_increases() {
+        long initialVersion = addressBook.getVersion();
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        long versionAfterSet = addressBook.getVersion();
+        assertTrue(versionAfterSet > versionAfterAdd);
+
+        addressBook.removePerson(editedAlice);
+        long versionAfterRemove = addressBook.getVersion();
+        assertTrue(versionAfterRemove > versionAfterSet);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > versionAfterRemove);
+    }
+
+    @Test
+    public void getVersion_afterReads_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        addressBook.getPersonsWithNameKeywords(Collections.singletonList("Alice"));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_personWithSameIdentityFieldsInAddressBook_returnsTrue() {
         addressBook.addPerson(ALICE);
@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook(null));
+    }
+
+    @Test
+    public void constructor_emptyAddressBook_emptyPersonList() {
+        assertEquals(Collections.emptyList(), new ColumnarAddressBook(new AddressBook()).getPersonList());
+    }
+
+    @Test
+    public void getPersonList_typicalAddressBook_samePersonsInOrder() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalPersons(), columnarAddressBook.getPersonList());
+
+        // copies back into an equal address book
+        assertEquals(getTypicalAddressBook(), new AddressBook(columnarAddressBook));
+    }
+
+    @Test
+    public void getPersonList_nonAsciiFieldsAndSharedTags_roundTrips() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("\u6771\u4eac Shibuya, Caf\u00e9 Stra\u00dfe 5")
+                .withTags("friends", "colleagues").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                .withTags("colleagues").build();
+        Person noTags = new PersonBuilder().withName("Carl").withPhone("33333333").withEmail("carl@example.com")
+                .withTags().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(editedAlice, bob, noTags));
+
+        assertEquals(Arrays.asList(editedAlice, bob, noTags),
+                new ColumnarAddressBook(addressBook).getPersonList());
+    }
+
+    @Test
+    public void getPersonList_readTwice_equalButDistinctViews() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        Person first = columnarAddressBook.getPersonList().get(0);
+        Person second = columnarAddressBook.getPersonList().get(0);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getPersonList_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        int size = columnarAddressBook.getPersonList().size();
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPersonList().get(size));
+    }
+
+    @Test
+    public void equals() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+
+        // same values -> returns true
+        assertTrue(columnarAddressBook.equals(new ColumnarAddressBook(getTypicalAddressBook())));
+
+        // same object -> returns true
+        assertTrue(columnarAddressBook.equals(columnarAddressBook));
+
+        // null -> returns false
+        assertFalse(columnarAddressBook.equals(null));
+
+        // different types -> returns false
+        assertFalse(columnarAddressBook.equals(getTypicalAddressBook()));
+
+        // different persons -> returns false
+        assertFalse(columnarAddressBook.equals(new ColumnarAddressBook(new AddressBook())));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Person;
+
+public class IndexedPersonPredicateTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    /** Matches every person, so that the tests can tell whether it was tested instead of the matches. */
+    private final Predicate<Person> predicate = unused -> true;
+    private final Set<Person> currentMatches = Collections.singleton(ALICE);
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IndexedPersonPredicate(null, currentMatches, model));
+        assertThrows(NullPointerException.class, () -> new IndexedPersonPredicate(predicate, null, model));
+        assertThrows(NullPointerException.class, () -> new IndexedPersonPredicate(predicate, currentMatches, null));
+    }
+
+    @Test
+    public void test_addressBookUnmodified_answeredFromMatches() {
+        IndexedPersonPredicate indexedPredicate = new IndexedPersonPredicate(predicate, currentMatches, model);
+        assertTrue(indexedPredicate.test(ALICE));
+        assertFalse(indexedPredicate.test(BENSON));
+    }
+
+    @Test
+    public void test_addressBookModified_answeredByPredicate() {
+        IndexedPersonPredicate indexedPredicate = new IndexedPersonPredicate(predicate, currentMatches, model);
+        model.addPerson(HOON);
+        assertTrue(indexedPredicate.test(BENSON));
+        assertTrue(indexedPredicate.test(HOON));
+    }
+
+    @Test
+    public void test_personsAddedThroughFilteredList_answeredByPredicate() {
+        // A FilteredList tests the persons while the change is being reported, before the modification returns
+        FilteredList<Person> filteredPersons = new FilteredList<>(model.getAddressBook().getPersonList(),
+                new IndexedPersonPredicate(predicate, currentMatches, model));
+        assertEquals(Collections.singletonList(ALICE), filteredPersons);
+
+        model.addPersons(Collections.singletonList(HOON));
+        assertEquals(model.getAddressBook().getPersonList(), filteredPersons);
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    private static NameSimilarToKeywordsPredicate predicateOf(String... keywords) {
+        return new NameSimilarToKeywordsPredicate(Arrays.asList(keywords));
+    }
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate firstPredicate = predicateOf("first");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same keywords after normalization -> returns true
+        assertTrue(firstPredicate.equals(predicateOf("FIRST")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(predicateOf("first", "second")));
+    }
+
+    @Test
+    public void getDistance_similarWords_smallestDistance() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+
+        // exact match, ignoring case
+        assertEquals(0, predicateOf("ALICE").getDistance(person));
+
+        // one edit from a keyword of 3 to 5 characters
+        assertEquals(1, predicateOf("alise", "bob").getDistance(person));
+
+        // two edits from a keyword of at least 6 characters
+        assertEquals(2, predicateOf("pualine").getDistance(person));
+
+        // closest of several similar words
+        assertEquals(0, predicateOf("alicia", "pauline").getDistance(person));
+    }
+
+    @Test
+    public void test() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+        assertTrue(predicateOf("alicr").test(person));
+
+        // short keywords must match exactly
+        assertFalse(predicateOf("al").test(person));
+
+        // too many edits for the keyword length
+        assertFalse(predicateOf("alixx").test(person));
+        assertEquals(Integer.MAX_VALUE, predicateOf("alixx").getDistance(person));
+    }
+}
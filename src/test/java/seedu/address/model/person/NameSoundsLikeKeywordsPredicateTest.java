@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSoundsLikeKeywordsPredicateTest {
+
+    private static NameSoundsLikeKeywordsPredicate predicateOf(String... keywords) {
+        return new NameSoundsLikeKeywordsPredicate(Arrays.asList(keywords));
+    }
+
+    @Test
+    public void equals() {
+        NameSoundsLikeKeywordsPredicate firstPredicate = predicateOf("Robert");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // keywords with the same Soundex codes -> returns true
+        assertTrue(firstPredicate.equals(predicateOf("rupert")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different Soundex codes -> returns false
+        assertFalse(firstPredicate.equals(predicateOf("Alice")));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeywords_returnsTrue() {
+        // same Soundex code, ignoring case
+        assertTrue(predicateOf("RUPERT").test(new PersonBuilder().withName("Alice Robert").build()));
+
+        // only one matching keyword
+        assertTrue(predicateOf("Bob", "Alis").test(new PersonBuilder().withName("Alice Carol").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeywords_returnsFalse() {
+        // zero keywords
+        assertFalse(predicateOf().test(new PersonBuilder().withName("Alice").build()));
+
+        // keyword without a Soundex code
+        assertFalse(predicateOf("123").test(new PersonBuilder().withName("Alice 123").build()));
+
+        // different Soundex code
+        assertFalse(predicateOf("Carol").test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    private static NameStartsWithKeywordsPredicate predicateOf(String... keywords) {
+        return new NameStartsWithKeywordsPredicate(Arrays.asList(keywords));
+    }
+
+    @Test
+    public void constructor_mixedCaseKeywords_keywordsNormalized() {
+        assertEquals(Arrays.asList("alice", "bob"), predicateOf(" aLIce", "BOB").getKeywords());
+    }
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate = predicateOf("first");
+        NameStartsWithKeywordsPredicate secondPredicate = predicateOf("first", "second");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(predicateOf("FIRST")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameStartsWithKeywords_returnsTrue() {
+        // Whole word
+        assertTrue(predicateOf("Alice").test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Start of a later word
+        assertTrue(predicateOf("Bo").test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Only one matching keyword
+        assertTrue(predicateOf("Car", "Bo").test(new PersonBuilder().withName("Alice Carol").build()));
+
+        // Mixed-case keywords
+        assertTrue(predicateOf("aLI", "bOB").test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotStartWithKeywords_returnsFalse() {
+        // Zero keywords
+        assertFalse(new NameStartsWithKeywordsPredicate(Collections.emptyList())
+                .test(new PersonBuilder().withName("Alice").build()));
+
+        // Keyword in the middle of a word
+        assertFalse(predicateOf("lic").test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keyword longer than the word
+        assertFalse(predicateOf("Alicia").test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords match phone and email, but do not match name
+        assertFalse(predicateOf("12345", "alice@").test(new PersonBuilder().withName("Alice")
+                .withPhone("12345").withEmail("alice@email.com").build()));
+    }
+
+    @Test
+    public void isRefinedBy() {
+        // longer keywords -> returns true
+        assertTrue(predicateOf("al", "b").isRefinedBy(predicateOf("ALI", "bo")));
+
+        // same keywords -> returns true
+        assertTrue(predicateOf("al").isRefinedBy(predicateOf("al")));
+
+        // shorter keyword -> returns false
+        assertFalse(predicateOf("ali").isRefinedBy(predicateOf("al")));
+
+        // different keyword -> returns false
+        assertFalse(predicateOf("al").isRefinedBy(predicateOf("bo")));
+
+        // more keywords match more persons -> returns false
+        assertFalse(predicateOf("al").isRefinedBy(predicateOf("al", "bo")));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagFilterPredicateTest {
+
+    private static final TagLiteral FRIENDS = new TagLiteral(new Tag("friends"), false);
+    private static final TagLiteral COLLEAGUES = new TagLiteral(new Tag("colleagues"), false);
+    private static final TagLiteral NOT_OWES_MONEY = new TagLiteral(new Tag("owesMoney"), true);
+
+    @Test
+    public void constructor_emptyClause_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TagFilterPredicate(Collections.singletonList(Collections.emptyList())));
+    }
+
+    @Test
+    public void equals() {
+        TagFilterPredicate firstPredicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS)));
+        TagFilterPredicate secondPredicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS, COLLEAGUES)));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagFilterPredicate(clauses(Arrays.asList(FRIENDS)))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different clauses -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same tag but negated -> returns false
+        assertFalse(new TagLiteral(new Tag("owesMoney"), false).equals(NOT_OWES_MONEY));
+    }
+
+    @Test
+    public void test_personMatchesEveryClause_returnsTrue() {
+        // One clause with one tag
+        TagFilterPredicate predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS)));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // Alternatives within a clause
+        predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS, COLLEAGUES)));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+
+        // Negated tag
+        predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS), Arrays.asList(NOT_OWES_MONEY)));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void test_personFailsAClause_returnsFalse() {
+        // Missing tag
+        TagFilterPredicate predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS)));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+
+        // Only one of two required tags
+        predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS), Arrays.asList(COLLEAGUES)));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // Has negated tag
+        predicate = new TagFilterPredicate(clauses(Arrays.asList(FRIENDS), Arrays.asList(NOT_OWES_MONEY)));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+    }
+
+    @SafeVarargs
+    private static List<List<TagLiteral>> clauses(List<TagLiteral>... clauses) {
+        return Arrays.asList(clauses);
+    }
+}
@@ -4,19 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.TagFilterPredicate.TagLiteral;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +54,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_personWithSameNameAndEmailOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnly_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +94,41 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newPersons_personsAddedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Collections.singleton(CARL), uniquePersonList.getPersonsWithNameKeywords(
+                Collections.singletonList(CARL.getName().fullName.split(" ")[0])));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        String expectedMessage = new DuplicatePersonException(ALICE, editedAlice).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.addAll(Arrays.asList(BOB, editedAlice)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedBob = new PersonBuilder(BOB).withEmail(VALID_EMAIL_BOB + "m").build();
+        String expectedMessage = new DuplicatePersonException(BOB, editedBob).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.addAll(Arrays.asList(ALICE, BOB, editedBob)));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -156,12 +227,125 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsFirstDuplicatePair() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice, ALICE);
+        String expectedMessage = new DuplicatePersonException(ALICE, editedAlice).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_matchingKeywords_returnsUnionOfMatches() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsWithNameKeywords(
+                Arrays.asList("aLiCe", "Carl")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BOB)), uniquePersonList.getPersonsWithNameKeywords(
+                Arrays.asList("alice", "bob")));
+        assertTrue(uniquePersonList.getPersonsWithNameKeywords(Arrays.asList("Ali", "Choos")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_afterEditAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, AMY);
+        assertTrue(uniquePersonList.getPersonsWithNameKeywords(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singleton(AMY), uniquePersonList.getPersonsWithNameKeywords(
+                Collections.singletonList("amy")));
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getPersonsWithNameKeywords(Collections.singletonList("bob")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithSoundAlikeNameWords_soundAlikeKeywords_returnsMatches() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsWithSoundAlikeNameWords(
+                Arrays.asList("Alis", "Karl")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BOB)), uniquePersonList.getPersonsWithSoundAlikeNameWords(
+                Arrays.asList("paulien", "bop")));
+        assertTrue(uniquePersonList.getPersonsWithSoundAlikeNameWords(Arrays.asList("Amy", "42")).isEmpty());
+
+        uniquePersonList.setPerson(ALICE, AMY);
+        assertTrue(uniquePersonList.getPersonsWithSoundAlikeNameWords(Arrays.asList("Alis")).isEmpty());
+        assertEquals(Collections.singleton(AMY), uniquePersonList.getPersonsWithSoundAlikeNameWords(
+                Arrays.asList("ame")));
+    }
+
+    @Test
+    public void getPersonsWithSimilarNameWords_misspeltKeywords_returnsRankedMatches() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(AMY);
+
+        // one edit away from alice, two edits away from pauline
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.getPersonsWithSimilarNameWords(
+                Arrays.asList("Alicr"), 10));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.getPersonsWithSimilarNameWords(
+                Arrays.asList("paulien"), 10));
+
+        // closer matches first
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.getPersonsWithSimilarNameWords(
+                Arrays.asList("alicee", "choo"), 10));
+        assertEquals(Arrays.asList(BOB), uniquePersonList.getPersonsWithSimilarNameWords(
+                Arrays.asList("alicee", "choo"), 1));
+
+        // short keywords must match exactly
+        assertTrue(uniquePersonList.getPersonsWithSimilarNameWords(Arrays.asList("am"), 10).isEmpty());
+        assertEquals(Arrays.asList(AMY), uniquePersonList.getPersonsWithSimilarNameWords(Arrays.asList("bee"), 10));
+    }
+
+    @Test
+    public void getPersonsWithSimilarNameWords_afterRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.getPersonsWithSimilarNameWords(Arrays.asList("alice"), 10).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatching_afterRemoveAndAdd_reflectsChanges() {
+        TagFilterPredicate friends = new TagFilterPredicate(Collections.singletonList(
+                Collections.singletonList(new TagLiteral(new Tag("friends"), false))));
+        TagFilterPredicate notFriends = new TagFilterPredicate(Collections.singletonList(
+                Collections.singletonList(new TagLiteral(new Tag("friends"), true))));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsMatching(friends));
+        assertEquals(Collections.singleton(BOB), uniquePersonList.getPersonsMatching(notFriends));
+
+        // the ordinal freed by ALICE is reused by CARL
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+        assertTrue(uniquePersonList.getPersonsMatching(friends).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(BOB, CARL)), uniquePersonList.getPersonsMatching(notFriends));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
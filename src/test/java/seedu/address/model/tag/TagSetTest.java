@@ -0,0 +1,76 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag FAMILY = new Tag("family");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of((List<Tag>) null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(FRIENDS, null));
+    }
+
+    @Test
+    public void of_unsortedTagsWithDuplicates_sortedDistinctTags() {
+        TagSet tagSet = TagSet.of(FRIENDS, COLLEAGUES, new Tag("friends"), FAMILY, COLLEAGUES);
+        assertEquals(Arrays.asList(COLLEAGUES, FAMILY, FRIENDS), new ArrayList<>(tagSet));
+        assertEquals(3, tagSet.size());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameInstance() {
+        TagSet tagSet = TagSet.of(FRIENDS);
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(FRIENDS, FAMILY);
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(COLLEAGUES));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.of().contains(FRIENDS));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsOtherSets() {
+        TagSet tagSet = TagSet.of(FRIENDS, FAMILY);
+        HashSet<Tag> hashSet = new HashSet<>(Arrays.asList(FAMILY, FRIENDS));
+
+        assertTrue(tagSet.equals(TagSet.of(FAMILY, FRIENDS)));
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(Collections.emptySet(), TagSet.of());
+
+        assertFalse(tagSet.equals(TagSet.of(FRIENDS)));
+        assertFalse(tagSet.equals(TagSet.of(FRIENDS, COLLEAGUES)));
+        assertFalse(tagSet.equals(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(FRIENDS);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(FAMILY));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> false));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        for (String word : Arrays.asList("meier", "meyer", "me", "alice", "alicia", "benson")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void add_emptyWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.add(""));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void contains_wordsAndPrefixes_correctResult() {
+        assertTrue(trie.contains("me"));
+        assertTrue(trie.contains("meier"));
+        assertTrue(trie.contains("alicia"));
+
+        // prefixes of words that were not added themselves
+        assertFalse(trie.contains("m"));
+        assertFalse(trie.contains("mei"));
+        assertFalse(trie.contains("alic"));
+        assertFalse(trie.contains(""));
+
+        // extensions of words
+        assertFalse(trie.contains("meiers"));
+    }
+
+    @Test
+    public void getWordsWithPrefix_validPrefixes_returnsWordsInOrder() {
+        assertEquals(Arrays.asList("me", "meier", "meyer"), trie.getWordsWithPrefix("m", 10));
+        assertEquals(Arrays.asList("meier"), trie.getWordsWithPrefix("mei", 10));
+        assertEquals(Arrays.asList("alice", "alicia"), trie.getWordsWithPrefix("ali", 10));
+        assertEquals(Arrays.asList("alicia"), trie.getWordsWithPrefix("alicia", 10));
+        assertEquals(Arrays.asList("alice", "alicia", "benson", "me", "meier", "meyer"),
+                trie.getWordsWithPrefix("", 10));
+    }
+
+    @Test
+    public void getWordsWithPrefix_noMatch_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), trie.getWordsWithPrefix("x", 10));
+        assertEquals(Collections.emptyList(), trie.getWordsWithPrefix("mex", 10)); // leaves the trie mid-edge
+        assertEquals(Collections.emptyList(), trie.getWordsWithPrefix("bensons", 10));
+    }
+
+    @Test
+    public void getWordsWithPrefix_limit_returnsFirstWords() {
+        assertEquals(Arrays.asList("me", "meier"), trie.getWordsWithPrefix("me", 2));
+        assertEquals(Collections.emptyList(), trie.getWordsWithPrefix("me", 0));
+        assertThrows(IllegalArgumentException.class, () -> trie.getWordsWithPrefix("me", -1));
+    }
+
+    @Test
+    public void remove_repeatedWord_keptUntilRemovedAsOftenAsAdded() {
+        trie.add("meier");
+        trie.remove("meier");
+        assertTrue(trie.contains("meier"));
+
+        trie.remove("meier");
+        assertFalse(trie.contains("meier"));
+        assertEquals(Arrays.asList("me", "meyer"), trie.getWordsWithPrefix("me", 10));
+    }
+
+    @Test
+    public void remove_wordOnSharedPath_otherWordsKept() {
+        trie.remove("me");
+        assertFalse(trie.contains("me"));
+        assertEquals(Arrays.asList("meier", "meyer"), trie.getWordsWithPrefix("m", 10));
+
+        trie.remove("meyer");
+        assertEquals(Arrays.asList("meier"), trie.getWordsWithPrefix("m", 10));
+
+        // removing absent words does nothing
+        trie.remove("mei");
+        trie.remove("zed");
+        assertEquals(Arrays.asList("meier"), trie.getWordsWithPrefix("m", 10));
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        trie.clear();
+        assertEquals(Collections.emptyList(), trie.getWordsWithPrefix("", 10));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex();
+        for (String word : Arrays.asList("meier", "meyer", "alice", "alicia", "ab", "bo", "kurz", "kunz")) {
+            index.add(word);
+        }
+    }
+
+    @Test
+    public void getWordsWithin_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> index.getWordsWithin(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.getWordsWithin("alice", -1));
+    }
+
+    @Test
+    public void getWordsWithin_exactDistance_returnsOnlyThatWord() {
+        assertEquals(Collections.singletonMap("meier", 0), index.getWordsWithin("meier", 0));
+        assertEquals(Collections.emptyMap(), index.getWordsWithin("meie", 0));
+    }
+
+    @Test
+    public void getWordsWithin_misspelling_returnsWordsWithDistances() {
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("meier", 1);
+        expected.put("meyer", 1);
+        assertEquals(expected, index.getWordsWithin("meiyer", 1));
+
+        expected.clear();
+        expected.put("alice", 0);
+        expected.put("alicia", 2);
+        assertEquals(expected, index.getWordsWithin("alice", 2));
+    }
+
+    @Test
+    public void getWordsWithin_shortWords_noTrigramPruning() {
+        // every trigram of the query may be destroyed, so words sharing no trigram with it are found too
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("bo", 1);
+        expected.put("ab", 2);
+        assertEquals(expected, index.getWordsWithin("bz", 2));
+    }
+
+    @Test
+    public void remove_wordNoLongerReturned() {
+        index.remove("meyer");
+        assertEquals(Collections.singletonMap("meier", 1), index.getWordsWithin("meiyer", 1));
+
+        // removing absent words does nothing
+        index.remove("meyer");
+        index.remove("zed");
+        assertEquals(Collections.singletonMap("meier", 1), index.getWordsWithin("meiyer", 1));
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        index.clear();
+        assertEquals(Collections.emptyMap(), index.getWordsWithin("alice", 2));
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Writes a file made of {@code MAGIC}, {@code version} and then {@code content} to the test folder.
+     */
+    private Path writeTempFile(short version, byte[] content) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryAddressBookStorage.MAGIC.length + Short.BYTES + content.length);
+        buffer.put(BinaryAddressBookStorage.MAGIC).putShort(version).put(content);
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.write(filePath, buffer.array());
+        return filePath;
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        Arrays.stream(values).forEach(buffer::putInt);
+        return buffer.array();
+    }
+
+    private static void assertReadFails(Path filePath) {
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_nonAsciiAndLongValues_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        char[] longAddress = new char[200_000];
+        Arrays.fill(longAddress, 'a');
+        Person person = new PersonBuilder().withAddress("Zo\u00eb's flat, " + new String(longAddress))
+                .withTags("friends", "colleagues").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        FileUtil.writeToFile(filePath, "AB");
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ] }");
+        assertReadFails(filePath);
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        assertReadFails(writeTempFile((short) (BinaryAddressBookStorage.FORMAT_VERSION + 1), ints(0, 0)));
+    }
+
+    @Test
+    public void read_oldestFormatVersion_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // the persons are laid out in the same way, so the person index is ignored as trailing bytes
+        byte[] content = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(content).putShort(BinaryAddressBookStorage.MAGIC.length,
+                BinaryAddressBookStorage.OLDEST_FORMAT_VERSION);
+        Files.write(filePath, content);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        assertReadFails(writeTempFile(BinaryAddressBookStorage.FORMAT_VERSION, ints(0)));
+
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertReadFails(filePath);
+    }
+
+    @Test
+    public void read_invalidCount_exceptionThrown() throws Exception {
+        // negative tag count
+        assertReadFails(writeTempFile(BinaryAddressBookStorage.FORMAT_VERSION, ints(-1, 0)));
+
+        // more persons than could fit in the file
+        assertReadFails(writeTempFile(BinaryAddressBookStorage.FORMAT_VERSION, ints(0, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void read_invalidTagIndex_exceptionThrown() throws Exception {
+        byte[] name = "Amy".getBytes(UTF_8);
+        byte[] phone = "911".getBytes(UTF_8);
+        byte[] email = "amy@example.com".getBytes(UTF_8);
+        byte[] address = "Block 1".getBytes(UTF_8);
+        ByteBuffer person = ByteBuffer.allocate(8 * Integer.BYTES + name.length + phone.length + email.length
+                + address.length);
+        person.putInt(0).putInt(1);
+        person.putInt(name.length).put(name).putInt(phone.length).put(phone);
+        person.putInt(email.length).put(email).putInt(address.length).put(address);
+        person.putInt(1).putInt(0);
+        assertReadFails(writeTempFile(BinaryAddressBookStorage.FORMAT_VERSION, person.array()));
+    }
+
+    @Test
+    public void read_invalidPerson_exceptionThrown() throws Exception {
+        byte[] invalidName = "R@chel".getBytes(UTF_8);
+        ByteBuffer person = ByteBuffer.allocate(7 * Integer.BYTES + invalidName.length + 3);
+        person.putInt(0).putInt(1);
+        person.putInt(invalidName.length).put(invalidName).putInt(1).put((byte) '9');
+        person.putInt(1).put((byte) 'a').putInt(1).put((byte) 'b');
+        person.putInt(0);
+        assertReadFails(writeTempFile(BinaryAddressBookStorage.FORMAT_VERSION, person.array()));
+    }
+
+    @Test
+    public void saveAddressBook_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null, filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+}
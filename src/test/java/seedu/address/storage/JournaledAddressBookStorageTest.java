@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    private JournaledAddressBookStorage createStorage(Path filePath, int compactionThreshold) {
+        return new JournaledAddressBookStorage(filePath, FsyncPolicy.EVERY_WRITE, compactionThreshold,
+                Duration.ofHours(1));
+    }
+
+    /**
+     * Reads the address book at {@code filePath} with a storage for another file, so that it leaves the journal of
+     * {@code filePath} as it is.
+     */
+    private AddressBook readFresh(Path filePath) throws Exception {
+        JournaledAddressBookStorage freshStorage = createStorage(testFolder.resolve("unused.json"), 100);
+        try {
+            return new AddressBook(freshStorage.readAddressBook(filePath).get());
+        } finally {
+            freshStorage.close();
+        }
+    }
+
+    private List<String> readJournal(Path filePath) throws IOException {
+        return Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath), UTF_8);
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null, FsyncPolicy.BATCHED));
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath, null));
+        assertThrows(IllegalArgumentException.class, () -> createStorage(filePath, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(filePath, FsyncPolicy.BATCHED, 1, Duration.ZERO));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        storage = createStorage(testFolder.resolve("addressbook.json"), 100);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(0, readJournal(filePath).size());
+
+        // add, edit and delete a person
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournal(filePath).size());
+        assertEquals(original, readFresh(filePath));
+
+        // unchanged address book
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_clearedAddressBook_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook cleared = new AddressBook();
+        storage.saveAddressBook(cleared);
+        assertEquals(0, readJournal(filePath).size());
+        assertEquals(cleared, readFresh(filePath));
+    }
+
+    @Test
+    public void readAddressBook_afterRestart_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        // the storage is not closed, as when the app crashes
+        JournaledAddressBookStorage crashedStorage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        crashedStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        crashedStorage.saveAddressBook(original);
+
+        storage = createStorage(filePath, 100);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(readBack, readFresh(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = createStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // waits for the compaction in the background
+        storage.close();
+        assertEquals(0, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readFresh(filePath));
+    }
+
+    @Test
+    public void readAddressBook_crashDuringCompaction_recordsNotReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Path journalCopy = testFolder.resolve("journal.copy");
+        storage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // the new snapshot is in place, but the journal was not emptied
+        Files.copy(journalPath, journalCopy);
+        storage.compact();
+        storage.close();
+        Files.copy(journalCopy, journalPath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, readFresh(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        // the storage is not closed, as when the app crashes
+        JournaledAddressBookStorage crashedStorage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        crashedStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        crashedStorage.saveAddressBook(original);
+        Files.write(journalPath, "{\"sequence\":2,\"operation\":\"AD".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        storage = createStorage(filePath, 100);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // the incomplete record is removed, so that later records can be read
+        readBack.addPerson(BOB);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(readBack, readFresh(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedAppend_recordsOfFailedSaveNeverReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Path journalCopy = testFolder.resolve("journal.copy");
+        storage = createStorage(filePath, 100);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        storage = createStorage(filePath, 100);
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        Files.delete(journalPath);
+        Files.createDirectory(journalPath);
+        original.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        // the failed save wrote its record completely, and the app crashes after the next snapshot is in place
+        Files.delete(journalPath);
+        int hoonIndex = original.getPersonList().size() - 1;
+        Files.write(journalPath, (JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(1, hoonIndex, HOON))
+                + "\n").getBytes(UTF_8));
+        Files.copy(journalPath, journalCopy);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(0, readJournal(filePath).size());
+        Files.copy(journalCopy, journalPath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, readFresh(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidCompleteRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        storage = createStorage(filePath, 100);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        // not json
+        Files.write(journalPath, "not a record\n".getBytes(UTF_8));
+        assertThrows(DataConversionException.class, () -> readFresh(filePath));
+
+        // index out of bounds
+        Files.write(journalPath, "{\"sequence\":1,\"operation\":\"REMOVE\",\"index\":99}\n".getBytes(UTF_8));
+        assertThrows(DataConversionException.class, () -> readFresh(filePath));
+    }
+
+    @Test
+    public void close_nonEmptyJournal_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        assertEquals(0, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage = createStorage(filePath, 100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBookFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        storage = createStorage(filePath, 100);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack);
+        assertTrue(readJournal(filePath).size() == 1);
+        assertEquals(readBack, readFresh(filePath));
+    }
+
+}
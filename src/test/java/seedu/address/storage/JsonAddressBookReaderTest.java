@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path writeTempFile(String content) throws IOException {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, content);
+        return filePath;
+    }
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_extraFields_fieldsIgnored() throws Exception {
+        Path filePath = writeTempFile("{ \"version\" : { \"major\" : 1, \"tags\" : [ \"a\" ] }, \"persons\" : [ {"
+                + " \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", \"email\" : \"alice@example.com\","
+                + " \"address\" : \"123, Jurong West Ave 6, #08-111\", \"tagged\" : [ \"friends\" ],"
+                + " \"nickname\" : \"Al\" } ], \"extra\" : null }");
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_noPersons_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(writeTempFile("{ }")));
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(writeTempFile("{ \"persons\" : [ ] }")));
+    }
+
+    @Test
+    public void read_invalidFormat_throwsIoException() throws Exception {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(writeTempFile("not json")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(writeTempFile("[ ]")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(writeTempFile("{ \"persons\" : [ 1 ] }")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(writeTempFile("{ \"persons\" : [ ")));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 1,
+                Email.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        Person duplicateAlice = new PersonBuilder(ALICE).withEmail("pauline@example.com").withAddress("4th street")
+                .withTags().build();
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_PAIR,
+                ALICE, duplicateAlice);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+}
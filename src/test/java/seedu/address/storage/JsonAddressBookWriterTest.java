@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(null, filePath, false));
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(getTypicalAddressBook(), null, false));
+    }
+
+    @Test
+    public void write_indented_sameAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookWriter.write(original, filePath, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_compact_singleLine() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookWriter.write(original, filePath, true);
+
+        String content = FileUtil.readFromFile(filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)), content);
+        assertFalse(content.contains("\n"));
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingFile_contentsReplaced() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+}
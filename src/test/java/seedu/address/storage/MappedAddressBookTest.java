@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path saveTempFile(ReadOnlyAddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return filePath;
+    }
+
+    private static ReadOnlyAddressBook readMapped(Path filePath) throws Exception {
+        return new BinaryAddressBookStorage(filePath).readMappedAddressBook(filePath).get();
+    }
+
+    @Test
+    public void readMappedAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readMappedAddressBook(null));
+    }
+
+    @Test
+    public void readMappedAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readMappedAddressBook(filePath).isPresent());
+    }
+
+    @Test
+    public void getPersonList_typicalAddressBook_samePersonsInOrder() throws Exception {
+        ReadOnlyAddressBook mappedAddressBook = readMapped(saveTempFile(getTypicalAddressBook()));
+        assertEquals(getTypicalPersons(), mappedAddressBook.getPersonList());
+
+        // copies back into an equal address book
+        assertEquals(getTypicalAddressBook(), new AddressBook(mappedAddressBook));
+    }
+
+    @Test
+    public void getPersonList_emptyAddressBook_emptyPersonList() throws Exception {
+        assertEquals(Collections.emptyList(), readMapped(saveTempFile(new AddressBook())).getPersonList());
+    }
+
+    @Test
+    public void getPersonList_valuesAcrossRegions_samePersonsInOrder() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("\u6771\u4eac Shibuya, Caf\u00e9 Stra\u00dfe 5")
+                .withTags("friends", "colleagues").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setPerson(ALICE, editedAlice);
+        Path filePath = saveTempFile(addressBook);
+
+        // regions smaller than every value and of an odd size, so that values of every type span regions
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            assertEquals(addressBook.getPersonList(), new MappedAddressBook(channel, 3).getPersonList());
+        }
+    }
+
+    @Test
+    public void getPersonList_readTwice_equalButDistinctViews() throws Exception {
+        ReadOnlyAddressBook mappedAddressBook = readMapped(saveTempFile(getTypicalAddressBook()));
+        Person first = mappedAddressBook.getPersonList().get(0);
+        Person second = mappedAddressBook.getPersonList().get(0);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() throws Exception {
+        ReadOnlyAddressBook mappedAddressBook = readMapped(saveTempFile(getTypicalAddressBook()));
+        assertThrows(UnsupportedOperationException.class, () -> mappedAddressBook.getPersonList().remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> mappedAddressBook.getPersonList().get(-1));
+    }
+
+    @Test
+    public void getPersonList_invalidPerson_onlyThatPersonThrows() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, new PersonBuilder().withName("Bob Choo").build()));
+        Path filePath = saveTempFile(addressBook);
+
+        // overwrite the first letter of the second name with a character that is not allowed in names
+        byte[] content = Files.readAllBytes(filePath);
+        byte[] bobName = "Bob Choo".getBytes(UTF_8);
+        for (int i = 0; i < content.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(content, i, i + bobName.length), bobName)) {
+                content[i] = '@';
+            }
+        }
+        Files.write(filePath, content);
+
+        ReadOnlyAddressBook mappedAddressBook = readMapped(filePath);
+        assertEquals(ALICE, mappedAddressBook.getPersonList().get(0));
+        assertThrows(IllegalArgumentException.class, () -> mappedAddressBook.getPersonList().get(1));
+    }
+
+    @Test
+    public void readMappedAddressBook_noPersonIndex_exceptionThrown() throws Exception {
+        Path filePath = saveTempFile(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(content).putShort(BinaryAddressBookStorage.MAGIC.length,
+                BinaryAddressBookStorage.OLDEST_FORMAT_VERSION);
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, () -> readMapped(filePath));
+    }
+
+    @Test
+    public void readMappedAddressBook_invalidPersonIndex_exceptionThrown() throws Exception {
+        Path filePath = saveTempFile(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        // truncated file
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+        assertThrows(DataConversionException.class, () -> readMapped(filePath));
+
+        // position of the person index outside the file
+        ByteBuffer.wrap(content).putLong(content.length - Long.BYTES, content.length);
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, () -> readMapped(filePath));
+    }
+
+    @Test
+    public void readMappedAddressBook_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> readMapped(filePath));
+
+        Files.write(filePath, new byte[0]);
+        assertThrows(DataConversionException.class, () -> readMapped(filePath));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Returns a converter that converts each name into a person with that name.
+     */
+    private ParallelPersonConverter<String> createConverter() {
+        return new ParallelPersonConverter<>(this::toPerson, pool, CHUNK_SIZE);
+    }
+
+    private Person toPerson(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new PersonBuilder().withName(name).build();
+    }
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParallelPersonConverter<>(this::toPerson, pool, 0));
+    }
+
+    @Test
+    public void constructor_nonPositiveMaxPendingChunks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParallelPersonConverter<>(this::toPerson, pool, CHUNK_SIZE, 0));
+    }
+
+    @Test
+    public void finish_noRecords_emptyList() throws Exception {
+        assertTrue(createConverter().finish().isEmpty());
+    }
+
+    @Test
+    public void finish_manyChunks_personsInOrder() throws Exception {
+        ParallelPersonConverter<String> converter = createConverter();
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 7 * CHUNK_SIZE + 1; i++) {
+            String name = "Person " + i;
+            converter.add(name);
+            expected.add(toPerson(name));
+        }
+        assertEquals(expected, converter.finish());
+    }
+
+    @Test
+    public void add_tooManyChunksPending_waitsForOldestChunk() throws Exception {
+        int maxPendingChunks = 2;
+        AtomicInteger convertedCount = new AtomicInteger();
+        ParallelPersonConverter<String> converter = new ParallelPersonConverter<>(name -> {
+            convertedCount.incrementAndGet();
+            return toPerson(name);
+        }, pool, CHUNK_SIZE, maxPendingChunks);
+
+        for (int i = 0; i < 7 * CHUNK_SIZE; i++) {
+            converter.add("Person " + i);
+            int submittedChunks = (i + 1) / CHUNK_SIZE;
+            assertTrue(convertedCount.get() >= (submittedChunks - maxPendingChunks) * CHUNK_SIZE);
+        }
+        assertEquals(7 * CHUNK_SIZE, converter.finish().size());
+    }
+
+    @Test
+    public void finish_invalidRecords_throwsIllegalValueExceptionForFirst() {
+        ParallelPersonConverter<String> converter = createConverter();
+        for (int i = 0; i < 4 * CHUNK_SIZE; i++) {
+            // The records at positions 4 and 7 are invalid, in different chunks
+            converter.add(i == 3 || i == 6 ? "" : "Person " + i);
+        }
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 4,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::finish);
+    }
+
+    @Test
+    public void finish_invalidRecordInCollectedChunk_throwsIllegalValueException() {
+        ParallelPersonConverter<String> converter = new ParallelPersonConverter<>(this::toPerson, pool, CHUNK_SIZE, 1);
+        for (int i = 0; i < 4 * CHUNK_SIZE; i++) {
+            // The first chunk is collected while the later ones are added
+            converter.add(i == 0 ? "" : "Person " + i);
+        }
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 1,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::finish);
+    }
+
+    @Test
+    public void finish_converterThrowsRuntimeException_exceptionRethrown() {
+        ParallelPersonConverter<String> converter = new ParallelPersonConverter<>(name -> {
+            throw new IllegalStateException(name);
+        }, pool, CHUNK_SIZE);
+        converter.add("Alice");
+        assertThrows(IllegalStateException.class, converter::finish);
+    }
+
+}
@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    // The typical persons fill segments 0 to 2 and half of segment 3
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private SegmentedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns the names of the files in the segment directory of {@code filePath}.
+     */
+    private Set<String> getSegmentFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(SegmentedAddressBookStorage.getSegmentDirectory(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> setOf(String... fileNames) {
+        return new HashSet<>(Arrays.asList(fileNames));
+    }
+
+    private AddressBook readFresh() throws Exception {
+        return new AddressBook(new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_invalidSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(filePath, 0));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_segmentsWritten() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(SegmentedAddressBookStorage.isManifestFile(filePath));
+        assertEquals(setOf("0.bin", "1.bin", "2.bin", "3.bin"), getSegmentFileNames());
+        assertEquals(getTypicalAddressBook(), readFresh());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editPerson_onlyItsSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withPhone("11111111").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(setOf("0.bin", "4.bin", "2.bin", "3.bin"), getSegmentFileNames());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_deletePerson_onlyItsSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ELLE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(setOf("0.bin", "1.bin", "4.bin", "3.bin"), getSegmentFileNames());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_addPersons_lastSegmentFilledUp() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // the last segment holds one person, so it is rewritten with the new person
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(setOf("0.bin", "1.bin", "2.bin", "4.bin"), getSegmentFileNames());
+
+        // the last segment is full, so a new segment is started
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(setOf("0.bin", "1.bin", "2.bin", "4.bin", "5.bin"), getSegmentFileNames());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath);
+        storage.saveAddressBook(new AddressBook(getTypicalAddressBook()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_clear_allSegmentsDeleted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(setOf(), getSegmentFileNames());
+        assertEquals(new AddressBook(), readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_manyDeletions_segmentsRebalanced() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // deleting the first person of each segment leaves segments of one person
+        for (Person person : getTypicalPersons()) {
+            if (person != ALICE && getTypicalPersons().indexOf(person) % SEGMENT_SIZE == 0) {
+                addressBook.removePerson(person);
+                storage.saveAddressBook(addressBook);
+            }
+        }
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // three persons left fit in two segments, so more than five segments is too many
+        assertTrue(getSegmentFileNames().size() <= 2 * 2 + 1);
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_afterRestart_segmentsReused() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage restartedStorage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = new AddressBook(restartedStorage.readAddressBook().get());
+        Person carl = addressBook.getPersonList().get(2);
+        addressBook.setPerson(carl, new PersonBuilder(carl).withPhone("11111111").build());
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(setOf("0.bin", "4.bin", "2.bin", "3.bin"), getSegmentFileNames());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_withoutReading_unlistedSegmentsReplaced() throws Exception {
+        new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE).saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(setOf("4.bin"), getSegmentFileNames());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_allSegmentsWritten() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_unlistedSegments_deleted() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path segmentDirectory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        FileUtil.writeToFile(segmentDirectory.resolve("7.bin"), "left behind by a crash");
+        FileUtil.writeToFile(segmentDirectory.resolve("notes.txt"), "not a segment");
+
+        assertEquals(getTypicalAddressBook(), readFresh());
+        assertEquals(setOf("0.bin", "1.bin", "2.bin", "3.bin", "notes.txt"), getSegmentFileNames());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_exceptionThrown() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(SegmentedAddressBookStorage.getSegmentDirectory(filePath).resolve("1.bin"));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_segmentSizeMismatch_exceptionThrown() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path segmentDirectory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        Files.copy(segmentDirectory.resolve("3.bin"), segmentDirectory.resolve("1.bin"),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_exceptionThrown() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(SegmentedAddressBookStorage.isManifestFile(filePath));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] manifest = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(manifest, manifest.length - 1));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null, filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+}
@@ -1,15 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -60,6 +66,72 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_binaryFile_savedInBinaryFormat() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(getTempFilePath("ab")).saveAddressBook(original);
+        assertEquals(AddressBookFormat.JSON, storageManager.getAddressBookFormat());
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(AddressBookFormat.BINARY, storageManager.getAddressBookFormat());
+
+        original.removePerson(ALICE);
+        storageManager.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentedManifest_savedInSegmentedFormat() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(getTempFilePath("ab")).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(AddressBookFormat.SEGMENTED, storageManager.getAddressBookFormat());
+
+        original.removePerson(ALICE);
+        storageManager.saveAddressBook(original);
+        assertTrue(SegmentedAddressBookStorage.isManifestFile(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileAtOtherPath_formatUnchanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(getTempFilePath("other")).saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook(getTempFilePath("other")).get()));
+        assertEquals(AddressBookFormat.JSON, storageManager.getAddressBookFormat());
+    }
+
+    @Test
+    public void setAddressBookFormat_binary_savedInBinaryFormat() throws Exception {
+        storageManager.setAddressBookFormat(AddressBookFormat.BINARY);
+        assertEquals(AddressBookFormat.BINARY, storageManager.getAddressBookFormat());
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(getTempFilePath("ab")));
+
+        storageManager.setAddressBookFormat(AddressBookFormat.JSON);
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(getTempFilePath("ab")));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void setAddressBookFormat_json_savedWithJsonStorageFactory() throws Exception {
+        storageManager = new StorageManager(new BinaryAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                filePath -> new JournaledAddressBookStorage(filePath, FsyncPolicy.OS_MANAGED));
+        storageManager.saveAddressBook(getTypicalAddressBook());
+
+        storageManager.setAddressBookFormat(AddressBookFormat.JSON);
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(getTempFilePath("ab"))));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+
+        // closes the journaled storage
+        storageManager.setAddressBookFormat(AddressBookFormat.BINARY);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager createStorageManager(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // later changes are not written
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+
+        storage.flush();
+        assertEquals(expected, new AddressBook(addressBookStorage.readAddressBook().get()));
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_savesCoalesced() throws Exception {
+        BlockingAddressBookStorageStub addressBookStorage =
+                new BlockingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBookStorage.writeStarted.await();
+
+        // saved while the first save is being written
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        addressBookStorage.canFinishWrite.countDown();
+        storage.flush();
+        assertEquals(2, addressBookStorage.writtenAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(addressBookStorage.writtenAddressBooks.get(1)));
+        assertEquals(addressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshot_writtenWithoutCopying() throws Exception {
+        BlockingAddressBookStorageStub addressBookStorage =
+                new BlockingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        addressBookStorage.canFinishWrite.countDown();
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        storage.saveAddressBook(snapshot);
+
+        storage.flush();
+        assertSame(snapshot, addressBookStorage.writtenAddressBooks.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_failureReportedToListeners() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(filePath)));
+        List<IOException> failures = new ArrayList<>();
+        storage.addWriteFailureListener((failedFilePath, failure) -> {
+            assertEquals(filePath, failedFilePath);
+            failures.add(failure);
+        });
+
+        // the failure is not thrown by later saves
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        assertEquals(Arrays.asList(DUMMY_IO_EXCEPTION, DUMMY_IO_EXCEPTION), failures);
+
+        // the failure is only thrown once
+        storage.flush();
+    }
+
+    @Test
+    public void flush_laterSnapshotWritten_earlierFailureNotThrown() throws Exception {
+        FailingOnceAddressBookStorageStub addressBookStorage =
+                new FailingOnceAddressBookStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that records the address books written, and holds up the first write until
+     * it is allowed to finish.
+     */
+    private static class BlockingAddressBookStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch canFinishWrite = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> writtenAddressBooks = new ArrayList<>();
+
+        private BlockingAddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                canFinishWrite.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            writtenAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws {@code DUMMY_IO_EXCEPTION} the first time it saves.
+     */
+    private static class FailingOnceAddressBookStorageStub extends JsonAddressBookStorage {
+        private boolean hasFailed = false;
+
+        private FailingOnceAddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws {@code DUMMY_IO_EXCEPTION} when saving.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class BatchedObservableListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+    /** The updates handed to the batch executor, which the test runs as the batches. */
+    private final List<Runnable> batches = new ArrayList<>();
+    private final BatchedObservableList<String> batchedList = new BatchedObservableList<>(source, batches::add);
+    /** The changes fired by the batched list, each described as its range, removed and added elements. */
+    private final List<List<Object>> changes = new ArrayList<>();
+
+    public BatchedObservableListTest() {
+        batchedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(Arrays.asList(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        });
+    }
+
+    private void runBatches() {
+        List<Runnable> pendingBatches = new ArrayList<>(batches);
+        batches.clear();
+        pendingBatches.forEach(Runnable::run);
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, batchedList);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> batchedList.add("f"));
+        assertThrows(UnsupportedOperationException.class, () -> batchedList.remove(0));
+    }
+
+    @Test
+    public void sourceChanged_updatedOnlyWhenBatchRuns() {
+        source.add("f");
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), batchedList);
+        assertTrue(changes.isEmpty());
+
+        runBatches();
+        assertEquals(source, batchedList);
+        assertEquals(Collections.singletonList(Arrays.asList(5, 6, Collections.emptyList(), Arrays.asList("f"))),
+                changes);
+    }
+
+    @Test
+    public void sourceChangedManyTimes_singleBatchAndChange() {
+        source.set(1, "x");
+        source.remove("d");
+        source.add(2, "y");
+        assertEquals(1, batches.size());
+
+        // the range from the first to the last changed element is replaced
+        runBatches();
+        assertEquals(Arrays.asList("a", "x", "y", "c", "e"), batchedList);
+        assertEquals(Collections.singletonList(Arrays.asList(1, 4, Arrays.asList("b", "c", "d"),
+                Arrays.asList("x", "y", "c"))), changes);
+
+        // later changes are handed over in a new batch
+        source.clear();
+        assertEquals(1, batches.size());
+        runBatches();
+        assertTrue(batchedList.isEmpty());
+        assertEquals(Arrays.asList(0, 0, Arrays.asList("a", "x", "y", "c", "e"), Collections.emptyList()),
+                changes.get(1));
+    }
+
+    @Test
+    public void sourceElementsRemoved_removalFired() {
+        source.remove(1);
+        source.remove(1);
+        runBatches();
+        assertEquals(Collections.singletonList(Arrays.asList(1, 1, Arrays.asList("b", "c"), Collections.emptyList())),
+                changes);
+    }
+
+    @Test
+    public void sourceChangeUndone_noChangeFired() {
+        source.add(0, "f");
+        source.remove(0);
+        runBatches();
+        assertEquals(source, batchedList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceElementReplacedByEqualElement_replacementFired() {
+        String equalElement = new String("c");
+        source.set(2, equalElement);
+        runBatches();
+        assertEquals(Collections.singletonList(Arrays.asList(2, 3, Arrays.asList("c"), Arrays.asList("c"))), changes);
+        assertSame(equalElement, batchedList.get(2));
+    }
+
+}
@@ -0,0 +1,151 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.awt.GraphicsEnvironment;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.TestAbortedException;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Checks that the UI parts built in code have the same scene graphs as the ones loaded from their {@code .fxml} files,
+ * comparing the type, id, style classes, layout properties and text of every node.
+ * The JavaFX toolkit is started for the test, so it needs a display, as the app does.
+ * The tests are skipped where there is none, such as on a headless CI server.
+ */
+public class CodeBuiltUiPartTest {
+
+    private static final Path SAVE_LOCATION = Paths.get("data", "addressbook.json");
+
+    @BeforeAll
+    public static void startToolkit() throws InterruptedException {
+        assumeFalse(GraphicsEnvironment.isHeadless(), "No display to start the JavaFX toolkit on");
+
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException ise) {
+            // the toolkit has already been started by another test
+            started.countDown();
+        } catch (UnsupportedOperationException uoe) {
+            // the display cannot be opened
+            throw new TestAbortedException("Unable to start the JavaFX toolkit", uoe);
+        }
+        started.await();
+    }
+
+    @Test
+    public void personCard_builtInCode_sameAsFxml() {
+        assertEquals(describe(PersonCard.fromFxml().getRoot()), describe(new PersonCard().getRoot()));
+
+        PersonCard fxmlCard = PersonCard.fromFxml();
+        fxmlCard.setPerson(TypicalPersons.ALICE, 1);
+        assertEquals(describe(fxmlCard.getRoot()), describe(new PersonCard(TypicalPersons.ALICE, 1).getRoot()));
+    }
+
+    @Test
+    public void personListPanel_builtInCode_sameAsFxml() {
+        assertEquals(describe(PersonListPanel.fromFxml(FXCollections.<Person>observableArrayList()).getRoot()),
+                describe(new PersonListPanel(FXCollections.observableArrayList()).getRoot()));
+    }
+
+    @Test
+    public void resultDisplay_builtInCode_sameAsFxml() {
+        assertEquals(describe(ResultDisplay.fromFxml().getRoot()), describe(new ResultDisplay().getRoot()));
+    }
+
+    @Test
+    public void statusBarFooter_builtInCode_sameAsFxml() {
+        assertEquals(describe(StatusBarFooter.fromFxml(SAVE_LOCATION).getRoot()),
+                describe(new StatusBarFooter(SAVE_LOCATION).getRoot()));
+    }
+
+    /**
+     * Returns a description of {@code node} and all its descendants, one node per line.
+     */
+    private static String describe(Node node) {
+        StringBuilder description = new StringBuilder();
+        describe(node, "", description);
+        return description.toString();
+    }
+
+    private static void describe(Node node, String indent, StringBuilder description) {
+        // Layout constraints set on a node by its parent, such as GridPane.columnIndex, are kept in its properties
+        Map<String, Object> constraints = new TreeMap<>();
+        node.getProperties().forEach((key, value) -> constraints.put(String.valueOf(key), value));
+
+        description.append(indent).append(node.getClass().getName())
+                .append(" id=").append(node.getId())
+                .append(" styleClass=").append(node.getStyleClass())
+                .append(" visible=").append(node.isVisible())
+                .append(" managed=").append(node.isManaged())
+                .append(" clipped=").append(node.getClip() != null)
+                .append(" constraints=").append(constraints);
+        if (node instanceof Region) {
+            Region region = (Region) node;
+            description.append(" minSize=").append(region.getMinWidth()).append('x').append(region.getMinHeight())
+                    .append(" prefSize=").append(region.getPrefWidth()).append('x').append(region.getPrefHeight())
+                    .append(" maxSize=").append(region.getMaxWidth()).append('x').append(region.getMaxHeight())
+                    .append(" padding=").append(region.getPadding());
+        }
+        if (node instanceof HBox) {
+            HBox box = (HBox) node;
+            description.append(" spacing=").append(box.getSpacing())
+                    .append(" alignment=").append(box.getAlignment())
+                    .append(" fillHeight=").append(box.isFillHeight());
+        }
+        if (node instanceof VBox) {
+            VBox box = (VBox) node;
+            description.append(" spacing=").append(box.getSpacing())
+                    .append(" alignment=").append(box.getAlignment())
+                    .append(" fillWidth=").append(box.isFillWidth());
+        }
+        if (node instanceof GridPane) {
+            for (ColumnConstraints column : ((GridPane) node).getColumnConstraints()) {
+                description.append(" column=[hgrow=").append(column.getHgrow())
+                        .append(" minWidth=").append(column.getMinWidth())
+                        .append(" prefWidth=").append(column.getPrefWidth())
+                        .append(" maxWidth=").append(column.getMaxWidth()).append(']');
+            }
+        }
+        if (node instanceof Labeled) {
+            description.append(" text=").append(((Labeled) node).getText());
+        }
+        if (node instanceof TextInputControl) {
+            description.append(" editable=").append(((TextInputControl) node).isEditable());
+        }
+        if (node instanceof ListView) {
+            description.append(" fixedCellSize=").append(((ListView<?>) node).getFixedCellSize());
+        }
+        description.append('\n');
+
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                describe(child, indent + "  ", description);
+            }
+        }
+    }
+
+}
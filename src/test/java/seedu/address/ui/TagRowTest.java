@@ -0,0 +1,73 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagRowTest {
+
+    /** An overflow label that is 10 wide, whatever the number of hidden tags. */
+    private static final IntToDoubleFunction OVERFLOW_WIDTH = hiddenCount -> 10;
+
+    @Test
+    public void countShownTags_allTagsFit_allShown() {
+        assertEquals(0, TagRow.countShownTags(new double[0], 5, 0, OVERFLOW_WIDTH));
+        assertEquals(3, TagRow.countShownTags(new double[] {20, 20, 20}, 5, 70, OVERFLOW_WIDTH));
+    }
+
+    @Test
+    public void countShownTags_tagsDoNotFit_tagsFittingWithOverflowLabelShown() {
+        // the first two tags and the overflow label take 20 + 5 + 20 + 5 + 10 = 60, and all three tags take 70
+        assertEquals(2, TagRow.countShownTags(new double[] {20, 20, 20}, 5, 69, OVERFLOW_WIDTH));
+        assertEquals(1, TagRow.countShownTags(new double[] {20, 20, 20}, 5, 59, OVERFLOW_WIDTH));
+
+        // the width of the overflow label depends on the number of hidden tags
+        assertEquals(1, TagRow.countShownTags(new double[] {20, 20, 20}, 5, 60,
+                hiddenCount -> hiddenCount == 1 ? 15 : 10));
+    }
+
+    @Test
+    public void countShownTags_noTagFitsWithOverflowLabel_noneShown() {
+        assertEquals(0, TagRow.countShownTags(new double[] {20, 20}, 5, 30, OVERFLOW_WIDTH));
+        assertEquals(0, TagRow.countShownTags(new double[] {100}, 5, 50, OVERFLOW_WIDTH));
+    }
+
+    @Test
+    public void personCard_manyTags_showsOverflowMarker() throws Exception {
+        CodeBuiltUiPartTest.startToolkit();
+
+        String[] tagNames = IntStream.rangeClosed(1, 30).mapToObj(i -> "tag" + i).toArray(String[]::new);
+        Person person = new PersonBuilder().withTags(tagNames).build();
+        FutureTask<List<Node>> layOutCard = new FutureTask<>(() -> {
+            Region card = new PersonCard(person, 1).getRoot();
+            new Scene(card, 300, PersonCard.HEIGHT);
+            card.applyCss();
+            card.layout();
+            return ((TagRow) card.lookup("#tags")).getChildren();
+        });
+        Platform.runLater(layOutCard);
+        List<Node> tagRowChildren = layOutCard.get();
+
+        Label overflowLabel = (Label) tagRowChildren.get(tagRowChildren.size() - 1);
+        List<Node> shownTagLabels = tagRowChildren.subList(0, tagRowChildren.size() - 1).stream()
+                .filter(Node::isVisible).collect(Collectors.toList());
+        assertTrue(overflowLabel.isVisible());
+        assertTrue(shownTagLabels.size() < tagNames.length);
+        assertEquals("+" + (tagNames.length - shownTagLabels.size()), overflowLabel.getText());
+    }
+}
@@ -75,6 +75,16 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_builtInCode_rootSet() {
+        assertEquals(VALID_FILE_ROOT, new TestCodeBuiltUiPart<TestFxmlObject>(VALID_FILE_ROOT).getRoot());
+    }
+
+    @Test
+    public void constructor_builtInCodeWithNullRoot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TestCodeBuiltUiPart<Object>(null));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -111,4 +121,15 @@ public class UiPartTest {
 
     }
 
+    /**
+     * UiPart used for testing whose scene graph is built in code.
+     */
+    private static class TestCodeBuiltUiPart<T> extends UiPart<T> {
+
+        TestCodeBuiltUiPart(T root) {
+            setRoot(root);
+        }
+
+    }
+
 }